@@ -0,0 +1,31 @@
+package com.trip.aslung.config;
+
+import org.apache.catalina.valves.RemoteIpValve;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 신뢰하는 프록시(로드밸런서)를 거친 요청만 X-Forwarded-For 로 클라이언트 주소를 바꿈
+// 그 외 요청의 헤더는 무시되므로 request.getRemoteAddr() 를 그대로 쓰면 됨 (조회수 중복 제거 등)
+@Configuration
+public class ForwardedHeaderConfig {
+
+    // 정규식, 비워두면 Tomcat 기본값 (사설망/루프백 대역)
+    @Value("${aslung.web.trusted-proxies:}")
+    private String trustedProxies;
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> remoteIpCustomizer() {
+        return factory -> {
+            RemoteIpValve valve = new RemoteIpValve();
+            valve.setRemoteIpHeader("X-Forwarded-For");
+            valve.setProtocolHeader("X-Forwarded-Proto");
+            if (!trustedProxies.isBlank()) {
+                valve.setInternalProxies(trustedProxies);
+            }
+            factory.addEngineValves(valve);
+        };
+    }
+}
@@ -0,0 +1,193 @@
+package com.trip.aslung.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 멀티 노드용 STOMP 브로커 중계 (aslung.websocket.broker=redis).
+ * 1. 이 노드의 브로커로 가는 /topic, /sub 메시지를 Redis 채널 "stomp:{destination}" 으로도 발행
+ * 2. 이 노드에 구독자가 있는 destination 채널만 구독해서, 다른 노드가 보낸 메시지를 로컬 브로커에 다시 넣음
+ * 로컬 구독자에게는 기존처럼 바로 전달되고, 자기가 보낸 메시지는 노드 ID 로 걸러낸다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "aslung.websocket.broker", havingValue = "redis")
+public class RedisStompRelay implements ChannelInterceptor, MessageListener {
+
+    // 다른 노드에서 중계된 메시지 표시 (다시 Redis 로 보내지 않도록)
+    static final String RELAYED_HEADER = "aslungRelayed";
+
+    private static final String CHANNEL_PREFIX = "stomp:";
+    private static final List<String> RELAY_PREFIXES = List.of("/topic/", "/sub/");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MessageChannel brokerChannel;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+
+    private final Timer fanOutTimer;
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+
+    // sessionId -> (subscriptionId -> destination)
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+    // destination -> 이 노드의 구독 수
+    private final Map<String, Integer> destinationCounts = new ConcurrentHashMap<>();
+
+    public RedisStompRelay(RedisTemplate<String, Object> redisTemplate,
+                           RedisMessageListenerContainer redisMessageListenerContainer,
+                           @Qualifier("brokerChannel") @Lazy MessageChannel brokerChannel,
+                           ObjectMapper objectMapper,
+                           ServerNode serverNode,
+                           MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.brokerChannel = brokerChannel;
+        this.objectMapper = objectMapper;
+        this.nodeId = serverNode.getId();
+
+        this.fanOutTimer = Timer.builder("aslung.stomp.relay.fanout")
+                .description("다른 노드에서 발행된 메시지가 이 노드 브로커에 들어오기까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("aslung.stomp.relay.published").register(meterRegistry);
+        this.receivedCounter = Counter.builder("aslung.stomp.relay.received").register(meterRegistry);
+    }
+
+    // 1. 이 노드에서 발행된 메시지를 Redis 로 전달 (brokerChannel 인터셉터)
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageType.MESSAGE != SimpMessageHeaderAccessor.getMessageType(headers)) return message;
+        if (headers.containsKey(RELAYED_HEADER)) return message;
+
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (!isRelayed(destination) || !(message.getPayload() instanceof byte[] payload)) return message;
+
+        Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+        RelayEnvelope envelope = new RelayEnvelope(
+                nodeId,
+                destination,
+                contentType != null ? contentType.toString() : null,
+                System.currentTimeMillis(),
+                payload
+        );
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + destination, objectMapper.writeValueAsString(envelope));
+            publishedCounter.increment();
+        } catch (JsonProcessingException e) {
+            log.error("STOMP 중계 메시지 직렬화 실패. destination={}", destination, e);
+        }
+        return message;
+    }
+
+    // 2. 다른 노드에서 온 메시지를 로컬 브로커로 전달
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        RelayEnvelope envelope;
+        try {
+            envelope = objectMapper.readValue(message.getBody(), RelayEnvelope.class);
+        } catch (IOException e) {
+            log.error("STOMP 중계 메시지 역직렬화 실패", e);
+            return;
+        }
+        if (nodeId.equals(envelope.origin())) return;
+
+        // 노드 간 시계 차이만큼 오차가 있음
+        fanOutTimer.record(Math.max(0, System.currentTimeMillis() - envelope.sentAt()), TimeUnit.MILLISECONDS);
+        receivedCounter.increment();
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(envelope.destination());
+        if (envelope.contentType() != null) {
+            accessor.setContentType(MimeTypeUtils.parseMimeType(envelope.contentType()));
+        }
+        accessor.setHeader(RELAYED_HEADER, true);
+        brokerChannel.send(MessageBuilder.createMessage(envelope.payload(), accessor.getMessageHeaders()));
+    }
+
+    // 3. 구독 수에 따라 destination 채널 구독/해제
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (!isRelayed(destination) || accessor.getSessionId() == null) return;
+
+        sessionSubscriptions.computeIfAbsent(accessor.getSessionId(), k -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), destination);
+
+        destinationCounts.compute(destination, (d, count) -> {
+            if (count == null) {
+                redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + d));
+                return 1;
+            }
+            return count + 1;
+        });
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null) return;
+
+        String destination = subscriptions.remove(accessor.getSubscriptionId());
+        if (destination != null) release(destination);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions == null) return;
+
+        subscriptions.values().forEach(this::release);
+    }
+
+    private void release(String destination) {
+        destinationCounts.computeIfPresent(destination, (d, count) -> {
+            if (count > 1) return count - 1;
+            redisMessageListenerContainer.removeMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + d));
+            return null;
+        });
+    }
+
+    private boolean isRelayed(String destination) {
+        if (destination == null) return false;
+        return RELAY_PREFIXES.stream().anyMatch(destination::startsWith);
+    }
+
+    private record RelayEnvelope(String origin, String destination, String contentType, long sentAt, byte[] payload) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.trip.aslung.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업 (프레즌스 정리 등) 활성화
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,13 @@
+package com.trip.aslung.config;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+// 이 서버 인스턴스 식별자 (노드 간 pub/sub 라우팅, 자기가 보낸 메시지 구분용)
+@Getter
+@Component
+public class ServerNode {
+    private final String id = UUID.randomUUID().toString();
+}
@@ -0,0 +1,135 @@
+package com.trip.aslung.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 메시지 CBOR 인코딩 (clientOutboundChannel 인터셉터).
+ * 네이티브 WebSocket 으로 연결하면서 CONNECT 헤더에 "x-aslung-encoding: cbor" 를 보낸 세션에만
+ * JSON 대신 CBOR 바이너리 프레임으로 보낸다. (SockJS 는 바이너리 프레임을 못 보내서 제외)
+ * 브로커는 같은 payload 객체를 구독자 수만큼 같은 스레드에서 연달아 보내므로, 마지막 변환 결과를 재사용해서
+ * 브로드캐스트당 한 번만 변환한다.
+ */
+@Slf4j
+@Component
+public class StompCborEncoder implements ChannelInterceptor, HandshakeInterceptor {
+
+    public static final String ENCODING_HEADER = "x-aslung-encoding";
+    private static final String CBOR = "cbor";
+    private static final String NATIVE_ATTRIBUTE = "nativeWebSocket";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+
+    private final Set<String> cborSessions = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<Conversion> lastConversion = new ThreadLocal<>();
+
+    public StompCborEncoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    // 네이티브 엔드포인트로 들어온 세션 표시
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        attributes.put(NATIVE_ATTRIBUTE, true);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(headers);
+
+        // 1. 연결 응답 시점에 CONNECT 헤더를 보고 인코딩 결정
+        if (type == SimpMessageType.CONNECT_ACK) {
+            negotiate(headers);
+            return message;
+        }
+
+        // 2. 구독 메시지만 변환
+        if (type != SimpMessageType.MESSAGE) return message;
+        if (!cborSessions.contains(SimpMessageHeaderAccessor.getSessionId(headers))) return message;
+        if (!(message.getPayload() instanceof byte[] payload)) return message;
+
+        Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+        if (contentType == null || !MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(MimeType.valueOf(contentType.toString()))) {
+            return message;
+        }
+
+        byte[] encoded = encode(payload);
+        if (encoded == null) return message;
+
+        // octet-stream 이어야 바이너리 프레임으로 나감
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        accessor.setNativeHeader(ENCODING_HEADER, CBOR);
+        return MessageBuilder.createMessage(encoded, accessor.getMessageHeaders());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        cborSessions.remove(event.getSessionId());
+    }
+
+    private void negotiate(MessageHeaders headers) {
+        Message<?> connect = (Message<?>) headers.get(SimpMessageHeaderAccessor.CONNECT_MESSAGE_HEADER);
+        if (connect == null) return;
+
+        StompHeaderAccessor connectAccessor = StompHeaderAccessor.wrap(connect);
+        Map<String, Object> attributes = connectAccessor.getSessionAttributes();
+        boolean nativeSession = attributes != null && Boolean.TRUE.equals(attributes.get(NATIVE_ATTRIBUTE));
+
+        if (nativeSession && CBOR.equalsIgnoreCase(connectAccessor.getFirstNativeHeader(ENCODING_HEADER))) {
+            cborSessions.add(connectAccessor.getSessionId());
+        }
+    }
+
+    // 같은 payload 면 직전 변환 결과 재사용
+    private byte[] encode(byte[] payload) {
+        Conversion last = lastConversion.get();
+        if (last != null && last.source() == payload) {
+            return last.encoded();
+        }
+
+        try {
+            byte[] encoded = cborMapper.writeValueAsBytes(objectMapper.readTree(payload));
+            lastConversion.set(new Conversion(payload, encoded));
+            return encoded;
+        } catch (IOException e) {
+            log.warn("CBOR 변환 실패, JSON 으로 전송합니다.", e);
+            return null;
+        }
+    }
+
+    private record Conversion(byte[] source, byte[] encoded) {
+    }
+}
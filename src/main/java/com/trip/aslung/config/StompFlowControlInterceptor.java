@@ -0,0 +1,142 @@
+package com.trip.aslung.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션별 SEND 흐름 제어.
+ * 1. 초당 허용량을 넘는 메시지는 처리하지 않고, 보낸 세션에 /user/queue/errors 로 거절 사유와 재시도 시점을 알림 (토큰 버킷)
+ * 2. 처리 대기 중인 작업이 너무 많으면 에러 프레임으로 거절
+ */
+@Slf4j
+@Component
+public class StompFlowControlInterceptor implements ChannelInterceptor {
+
+    private static final String ERROR_DESTINATION = "/queue/errors";
+
+    private final StompInboundExecutor stompInboundExecutor;
+    // 브로커 설정이 이 인터셉터를 참조하므로 순환 참조를 피하려고 지연 조회
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final int maxPendingPerSession;
+
+    private final Counter droppedCounter;
+    private final Counter rejectedCounter;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public StompFlowControlInterceptor(StompInboundExecutor stompInboundExecutor,
+                                       ObjectProvider<SimpMessagingTemplate> messagingTemplate,
+                                       @Value("${aslung.websocket.inbound.rate-per-second:20}") double permitsPerSecond,
+                                       @Value("${aslung.websocket.inbound.burst:40}") int burst,
+                                       @Value("${aslung.websocket.inbound.max-pending-per-session:200}") int maxPendingPerSession,
+                                       MeterRegistry meterRegistry) {
+        this.stompInboundExecutor = stompInboundExecutor;
+        this.messagingTemplate = messagingTemplate;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.maxPendingPerSession = maxPendingPerSession;
+        this.droppedCounter = Counter.builder("aslung.stomp.inbound.dropped")
+                .description("초당 허용량 초과로 거절한 메시지 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("aslung.stomp.inbound.rejected")
+                .description("처리 대기 한도 초과로 거절한 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || StompCommand.SEND != accessor.getCommand()) return message;
+
+        String sessionId = accessor.getSessionId();
+        if (sessionId == null) return message;
+
+        // 1. 처리가 밀린 세션은 거절
+        if (stompInboundExecutor.pendingForSession(sessionId) >= maxPendingPerSession) {
+            rejectedCounter.increment();
+            throw new MessageDeliveryException(message, "처리 대기 중인 메시지가 너무 많습니다.");
+        }
+
+        // 2. 허용량 초과분은 처리하지 않고 보낸 세션에 거절을 알림 (일정 수정이 조용히 사라지지 않도록)
+        TokenBucket bucket = buckets.computeIfAbsent(sessionId, k -> new TokenBucket(burst));
+        long retryAfterMs = bucket.tryAcquire(permitsPerSecond, burst);
+        if (retryAfterMs > 0) {
+            droppedCounter.increment();
+            log.debug("메시지 허용량 초과로 거절 - sessionId: {}, destination: {}", sessionId, accessor.getDestination());
+            notifyRateLimited(accessor, sessionId, retryAfterMs);
+            return null;
+        }
+        return message;
+    }
+
+    // 클라이언트는 receipt / destination 으로 어떤 메시지가 거절됐는지 알고 retryAfterMs 뒤에 다시 보낼 수 있음
+    private void notifyRateLimited(StompHeaderAccessor accessor, String sessionId, long retryAfterMs) {
+        Principal user = accessor.getUser();
+        if (user == null) return;
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("type", "RATE_LIMITED");
+        payload.put("destination", accessor.getDestination());
+        payload.put("receipt", accessor.getReceipt());
+        payload.put("retryAfterMs", retryAfterMs);
+
+        // 같은 사용자의 다른 세션이 아니라 보낸 세션에만 전송
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+        messagingTemplate.getObject().convertAndSendToUser(user.getName(), ERROR_DESTINATION, payload,
+                headers.getMessageHeaders());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        buckets.remove(event.getSessionId());
+    }
+
+    private static final class TokenBucket {
+
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        private TokenBucket(int burst) {
+            this.tokens = burst;
+        }
+
+        // 통과하면 0, 아니면 토큰 1개가 찰 때까지 기다려야 하는 시간(ms)
+        synchronized long tryAcquire(double permitsPerSecond, int burst) {
+            long now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - refilledAt) / 1_000_000_000.0 * permitsPerSecond);
+            refilledAt = now;
+
+            if (tokens < 1) {
+                return Math.max(1, (long) Math.ceil((1 - tokens) / permitsPerSecond * 1000));
+            }
+            tokens -= 1;
+            return 0;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.trip.aslung.config;
 
+import com.trip.aslung.planMember.model.dto.PlanMember;
+import com.trip.aslung.planMember.model.service.PlanMemberCache;
 import com.trip.aslung.util.JWTUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,38 +11,118 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.security.Principal;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StompHandler implements ChannelInterceptor {
 
+    // /app/plans/{planId}/..., /sub/plans/{planId}, /topic/plans/{planId}
+    private static final Pattern PLAN_DESTINATION = Pattern.compile("^/(app|sub|topic)/plans/(\\d+)(/.*)?$");
+    private static final Pattern WILDCARD = Pattern.compile("[*?{]");
+
+    // SimpleBroker 가 처리하는 prefix (WebSocketConfig 와 같게)
+    private static final List<String> BROKER_PREFIXES = List.of("/sub", "/topic", "/queue");
+
     private final JWTUtil jwtUtil;
+    private final PlanMemberCache planMemberCache;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) return message;
 
-        // 1. 소켓 연결(CONNECT) 시점에 토큰 검증
+        // 1. 소켓 연결(CONNECT) 시점에 토큰 검증 후 세션 사용자 설정 (이후 메시지에는 스프링이 자동으로 붙여줌)
         if (StompCommand.CONNECT == accessor.getCommand()) {
-            String jwtToken = accessor.getFirstNativeHeader("Authorization");
-            log.info("⭐⭐⭐ WebSocket 연결 시 토큰 확인 : {}", jwtToken);
-
-            if (jwtToken != null && jwtToken.startsWith("Bearer ")) {
-                String token = jwtToken.substring(7);
-
-                // 2. 기존 JWTUtil로 검증
-                if (jwtUtil.validateToken(token)) {
-                    Long userId = jwtUtil.getUserId(token);
-                    // 3. 컨트롤러에서 사용할 수 있게 세션에 저장
-                    accessor.getSessionAttributes().put("userId", userId);
-                    log.info("인증 성공 - userId: {}", userId);
-                } else {
-                    log.error("토큰 검증 실패");
-                }
-            }
+            authenticate(accessor);
+        }
+
+        // 2. 플랜 구독/전송은 멤버만 (멤버 정보는 캐시에서 조회)
+        if (StompCommand.SUBSCRIBE == accessor.getCommand() || StompCommand.SEND == accessor.getCommand()) {
+            authorize(accessor);
         }
         return message;
     }
-}
\ No newline at end of file
+
+    private void authenticate(StompHeaderAccessor accessor) {
+        String jwtToken = accessor.getFirstNativeHeader("Authorization");
+
+        if (jwtToken == null || !jwtToken.startsWith("Bearer ")) {
+            throw new AccessDeniedException("인증 정보가 없습니다.");
+        }
+
+        // 기존 JWTUtil로 검증
+        String token = jwtToken.substring(7);
+        if (!jwtUtil.validateToken(token)) {
+            log.error("토큰 검증 실패");
+            throw new AccessDeniedException("유효하지 않은 토큰입니다.");
+        }
+
+        Long userId = jwtUtil.getUserId(token);
+
+        // 컨트롤러에서 Principal, 세션 속성 둘 다 사용할 수 있게 저장
+        accessor.setUser(new UsernamePasswordAuthenticationToken(
+                userId,
+                null,
+                Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"))
+        ));
+        accessor.getSessionAttributes().put("userId", userId);
+        log.info("인증 성공 - userId: {}", userId);
+    }
+
+    private void authorize(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null) return;
+
+        // 1. 브로커는 패턴 구독(/sub/plans/*, /topic/** 등)을 받아주므로 패턴 문자는 금지
+        if (WILDCARD.matcher(destination).find()) {
+            throw new AccessDeniedException("사용할 수 없는 대상입니다: " + destination);
+        }
+
+        // 2. 브로커 대상은 기본 거절: 직접 전송 금지, 구독은 /(sub|topic)/plans/{planId} 만 (개인 큐는 /user/queue/... 로)
+        Matcher matcher = PLAN_DESTINATION.matcher(destination);
+        if (isBrokerDestination(destination)) {
+            if (StompCommand.SEND == accessor.getCommand()) {
+                throw new AccessDeniedException("브로커 대상으로 직접 보낼 수 없습니다.");
+            }
+            if (!matcher.matches() || matcher.group(3) != null) {
+                throw new AccessDeniedException("구독할 수 없는 대상입니다: " + destination);
+            }
+        }
+        if (!matcher.matches()) return;
+
+        Principal user = accessor.getUser();
+        if (user == null) throw new AccessDeniedException("인증되지 않은 사용자입니다.");
+
+        Long planId = Long.valueOf(matcher.group(2));
+        Long userId = Long.valueOf(user.getName());
+
+        PlanMember member = planMemberCache.find(planId, userId);
+        if (member == null || !"JOINED".equals(member.getStatus())) {
+            throw new AccessDeniedException("해당 플랜의 멤버가 아닙니다.");
+        }
+
+        // 보기 권한은 구독과 접속 알림(/app/plans/{planId}/presence)만 가능
+        boolean presence = "app".equals(matcher.group(1)) && "/presence".equals(matcher.group(3));
+        if (StompCommand.SEND == accessor.getCommand() && "VIEWER".equals(member.getRole()) && !presence) {
+            throw new AccessDeniedException("수정 권한이 없습니다.");
+        }
+    }
+
+    private boolean isBrokerDestination(String destination) {
+        for (String prefix : BROKER_PREFIXES) {
+            if (destination.equals(prefix) || destination.startsWith(prefix + "/")) return true;
+        }
+        return false;
+    }
+}
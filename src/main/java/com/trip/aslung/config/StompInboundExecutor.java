@@ -0,0 +1,225 @@
+package com.trip.aslung.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * clientInboundChannel 용 실행기.
+ * 같은 플랜(/app/plans/{planId}/...)으로 온 메시지는 들어온 순서대로 하나씩 처리하고,
+ * 다른 플랜끼리는 병렬로 처리한다. 플랜과 무관한 메시지(CONNECT, SUBSCRIBE 등)는 세션 단위로 순서를 지킨다.
+ * 채널은 메시지 하나를 구독한 핸들러 수만큼 작업으로 나눠 넘기므로 대기 수는 메시지 단위로 세고,
+ * 전체 대기 메시지가 한도(max-pending)에 이르면 새 메시지는 거절한다 (키별 큐와 작업 큐가 무한히 커지지 않도록).
+ */
+@Slf4j
+@Component
+public class StompInboundExecutor implements Executor {
+
+    private static final Pattern PLAN_DESTINATION = Pattern.compile("^/app/plans/(\\d+)(/.*)?$");
+
+    // 한 키가 스레드를 독점하지 않도록 이만큼 처리하면 다른 키에게 양보
+    private static final int MAX_TASKS_PER_TURN = 32;
+
+    private final ThreadPoolTaskExecutor workers;
+
+    // 키 -> 대기 중인 작업 (맵에 있으면 처리 중인 것으로 봄, 큐 조작은 compute 안에서만)
+    private final Map<String, SerialQueue> queues = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> sessionPending = new ConcurrentHashMap<>();
+    // 메시지 ID -> 아직 끝나지 않은 핸들러 작업 수 (0 이 되면 메시지 하나 처리 완료)
+    private final Map<Object, AtomicInteger> messageTasks = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final int maxPending;
+
+    private final Timer handleTimer;
+    private final Counter rejectedCounter;
+
+    public StompInboundExecutor(@Value("${aslung.websocket.inbound.pool-size:8}") int poolSize,
+                                @Value("${aslung.websocket.inbound.max-pending:10000}") int maxPending,
+                                MeterRegistry meterRegistry) {
+        this.maxPending = maxPending;
+        this.workers = new ThreadPoolTaskExecutor();
+        this.workers.setCorePoolSize(poolSize);
+        this.workers.setMaxPoolSize(poolSize);
+        this.workers.setThreadNamePrefix("stomp-inbound-");
+        this.workers.initialize();
+
+        Gauge.builder("aslung.stomp.inbound.pending", pending, AtomicInteger::get)
+                .description("처리 대기 중인 인바운드 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("aslung.stomp.inbound.keys", queues, Map::size)
+                .description("처리 중인 플랜/세션 키 수")
+                .register(meterRegistry);
+        this.handleTimer = Timer.builder("aslung.stomp.inbound.handle")
+                .description("인바운드 메시지 핸들러 처리 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("aslung.stomp.inbound.overflow")
+                .description("전체 처리 대기 한도 초과로 거절한 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Message<?> message = (task instanceof MessageHandlingRunnable runnable) ? runnable.getMessage() : null;
+        String sessionId = (message != null) ? SimpMessageHeaderAccessor.getSessionId(message.getHeaders()) : null;
+        String key = orderingKey(message, sessionId);
+
+        Object messageId = (message != null) ? message.getHeaders().getId() : null;
+        if (!acquire(messageId, sessionId)) {
+            rejectedCounter.increment();
+            throw new RejectedExecutionException("STOMP 인바운드 처리 대기 한도 초과");
+        }
+        Runnable tracked = () -> runTracked(task, messageId, sessionId);
+
+        if (key == null) {
+            workers.execute(tracked);
+            return;
+        }
+
+        queues.compute(key, (k, queue) -> {
+            if (queue == null) {
+                queue = new SerialQueue(k);
+                queue.tasks.add(tracked);
+                workers.execute(queue);
+            } else {
+                queue.tasks.add(tracked);
+            }
+            return queue;
+        });
+    }
+
+    // 세션별 처리 대기 작업 수 (흐름 제어용)
+    public int pendingForSession(String sessionId) {
+        AtomicInteger count = sessionPending.get(sessionId);
+        return count != null ? count.get() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    // 메시지의 첫 작업일 때만 대기 수를 올림 (한도를 넘으면 메시지 전체를 거절)
+    private boolean acquire(Object messageId, String sessionId) {
+        if (messageId != null) {
+            boolean[] first = new boolean[1];
+            messageTasks.compute(messageId, (k, count) -> {
+                if (count == null) {
+                    first[0] = true;
+                    return new AtomicInteger(1);
+                }
+                count.incrementAndGet();
+                return count;
+            });
+            if (!first[0]) return true;
+        }
+
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            if (messageId != null) messageTasks.remove(messageId);
+            return false;
+        }
+        if (sessionId != null) {
+            sessionPending.compute(sessionId, (k, count) -> {
+                if (count == null) count = new AtomicInteger();
+                count.incrementAndGet();
+                return count;
+            });
+        }
+        return true;
+    }
+
+    // 메시지의 마지막 작업이 끝났을 때만 대기 수를 내림
+    private void release(Object messageId, String sessionId) {
+        if (messageId != null) {
+            boolean[] last = new boolean[1];
+            messageTasks.computeIfPresent(messageId, (k, count) -> {
+                if (count.decrementAndGet() > 0) return count;
+                last[0] = true;
+                return null;
+            });
+            if (!last[0]) return;
+        }
+
+        pending.decrementAndGet();
+        if (sessionId != null) {
+            sessionPending.computeIfPresent(sessionId, (k, count) -> count.decrementAndGet() > 0 ? count : null);
+        }
+    }
+
+    private void runTracked(Runnable task, Object messageId, String sessionId) {
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            // 예외로 같은 키의 다음 작업이 막히지 않도록 여기서 끊음
+            log.error("STOMP 인바운드 메시지 처리 실패", e);
+        } finally {
+            handleTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            release(messageId, sessionId);
+        }
+    }
+
+    private String orderingKey(Message<?> message, String sessionId) {
+        if (message == null) return null;
+
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination != null) {
+            Matcher matcher = PLAN_DESTINATION.matcher(destination);
+            if (matcher.matches()) {
+                return "plan:" + matcher.group(1);
+            }
+        }
+        return (sessionId != null) ? "session:" + sessionId : null;
+    }
+
+    private final class SerialQueue implements Runnable {
+
+        private final String key;
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        private SerialQueue(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < MAX_TASKS_PER_TURN; i++) {
+                Runnable next = poll();
+                if (next == null) return;
+                next.run();
+            }
+            workers.execute(this);
+        }
+
+        // 비었으면 맵에서 제거 (다음 작업이 오면 새로 실행)
+        private Runnable poll() {
+            Runnable[] next = new Runnable[1];
+            queues.compute(key, (k, queue) -> {
+                next[0] = tasks.poll();
+                return (next[0] == null) ? null : queue;
+            });
+            return next[0];
+        }
+    }
+}
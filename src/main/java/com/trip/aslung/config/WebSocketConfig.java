@@ -1,12 +1,16 @@
 package com.trip.aslung.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -14,27 +18,86 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
+    private final StompFlowControlInterceptor stompFlowControlInterceptor;
+    private final StompInboundExecutor stompInboundExecutor;
+    private final ObjectProvider<RedisStompRelay> redisStompRelay;
+    private final WebSocketSessionMonitor webSocketSessionMonitor;
+    private final StompCborEncoder stompCborEncoder;
+
+    @Value("${aslung.websocket.heartbeat-ms:10000}")
+    private long heartbeatMillis;
+
+    @Value("${aslung.websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${aslung.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${aslung.websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        // 메시지가 들어올 때 인터셉터가 가로채서 인증하도록 설정
-        registration.interceptors(stompHandler);
+        // 메시지가 들어올 때 인터셉터가 가로채서 인증하도록 설정 (인증 후 흐름 제어)
+        registration.interceptors(stompHandler, stompFlowControlInterceptor);
+
+        // 같은 플랜 메시지는 순서대로, 다른 플랜끼리는 병렬로 처리
+        registration.executor(stompInboundExecutor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // CBOR 을 요청한 네이티브 세션에는 바이너리로 전송
+        registration.interceptors(stompCborEncoder);
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // client <> Server 연결 엔드포인트
+        // 1. 네이티브 WebSocket (SockJS 핸드셰이크/폴백 없이 바로 연결)
+        registry.addEndpoint("/ws-native")
+                .setAllowedOriginPatterns("*")
+                .addInterceptors(webSocketSessionMonitor, stompCborEncoder);
+
+        // 2. WebSocket 을 못 쓰는 환경용 SockJS
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
+                .addInterceptors(webSocketSessionMonitor)
                 .withSockJS();
     }
 
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 느린 클라이언트 때문에 서버가 무한정 버퍼링하지 않도록 한도 초과 시 세션 종료
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .setTimeToFirstMessage(30 * 1000)
+                .addDecoratorFactory(webSocketSessionMonitor);
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 클라이언트가 메시지를 보낼 때 Prefix
         registry.setApplicationDestinationPrefixes("/app");
 
-        // 클라이언트가 메시지를 구독, 서버가 메세지 발행 Prefix
-        registry.enableSimpleBroker("/topic");
+        // 클라이언트가 메시지를 구독, 서버가 메세지 발행 Prefix (/queue 는 /user/queue/... 개인 메시지용)
+        // 하트비트: 서버 -> 클라이언트, 클라이언트 -> 서버 (끊긴 연결을 빨리 정리)
+        registry.enableSimpleBroker("/topic", "/sub", "/queue")
+                .setHeartbeatValue(new long[]{heartbeatMillis, heartbeatMillis})
+                .setTaskScheduler(heartbeatScheduler());
+
+        // 멀티 노드 모드(aslung.websocket.broker=redis)면 브로커로 가는 메시지를 다른 노드에도 중계
+        redisStompRelay.ifAvailable(relay -> registry.configureBrokerChannel().interceptors(relay));
+    }
+
+    // 브로커 하트비트 전용 스케줄러 (@Scheduled 용 스케줄러와 섞이지 않도록 빈으로 등록하지 않음)
+    private ThreadPoolTaskScheduler heartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-heartbeat-");
+        scheduler.setDaemon(true);
+        scheduler.initialize();
+        return scheduler;
     }
 }
@@ -0,0 +1,117 @@
+package com.trip.aslung.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드별 WebSocket 연결 관리.
+ * 1. 동시 연결 수가 한도를 넘으면 핸드셰이크를 503 으로 거절
+ * 2. 활성 세션 수, 전송 중인 바이트, 느린 클라이언트 강제 종료 횟수 측정
+ *    (전송 시간/버퍼 한도 초과 시 스프링이 SESSION_NOT_RELIABLE 로 세션을 닫음)
+ */
+@Slf4j
+@Component
+public class WebSocketSessionMonitor implements WebSocketHandlerDecoratorFactory, HandshakeInterceptor {
+
+    private final int maxConnections;
+
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final AtomicLong inFlightBytes = new AtomicLong();
+
+    private final Counter evictionCounter;
+    private final Counter rejectedCounter;
+
+    public WebSocketSessionMonitor(@Value("${aslung.websocket.max-connections:5000}") int maxConnections,
+                                   MeterRegistry meterRegistry) {
+        this.maxConnections = maxConnections;
+
+        Gauge.builder("aslung.ws.sessions.active", activeSessions, AtomicInteger::get)
+                .description("이 노드의 WebSocket 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("aslung.ws.outbound.inflight-bytes", inFlightBytes, AtomicLong::get)
+                .description("클라이언트로 전송 중인 바이트 수")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("aslung.ws.sessions.evicted")
+                .description("전송 시간/버퍼 한도 초과로 종료된 세션 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("aslung.ws.sessions.rejected")
+                .description("연결 수 한도 초과로 거절된 핸드셰이크 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        if (activeSessions.get() < maxConnections) return true;
+
+        rejectedCounter.increment();
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        return false;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                activeSessions.incrementAndGet();
+                super.afterConnectionEstablished(new MeteredSession(session));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                activeSessions.decrementAndGet();
+                if (CloseStatus.SESSION_NOT_RELIABLE.equals(closeStatus)) {
+                    evictionCounter.increment();
+                    log.warn("느린 클라이언트 연결 종료 - sessionId: {}", session.getId());
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    // 실제 소켓 쓰기 중인 바이트 집계
+    private final class MeteredSession extends WebSocketSessionDecorator {
+
+        private MeteredSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            int size = message.getPayloadLength();
+            inFlightBytes.addAndGet(size);
+            try {
+                super.sendMessage(message);
+            } finally {
+                inFlightBytes.addAndGet(-size);
+            }
+        }
+    }
+}
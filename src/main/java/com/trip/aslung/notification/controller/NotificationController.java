@@ -2,12 +2,13 @@ package com.trip.aslung.notification.controller;
 
 import com.trip.aslung.notification.model.dto.NotificationDto;
 import com.trip.aslung.notification.model.service.NotificationService;
+import com.trip.aslung.util.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/notifications")
@@ -19,10 +20,20 @@ public class NotificationController {
     // 내 알림 목록 조회
     // (보안을 위해 @AuthenticationPrincipal 등을 사용하는 것을 권장하지만, 일단 요청대로 작성)
     @GetMapping("")
-    public ResponseEntity<List<NotificationDto>> getMyNotifications(
+    public ResponseEntity<CursorPage<NotificationDto>> getMyNotifications(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(notificationService.getMyNotifications(userId, cursor, size));
+    }
+
+    // 안 읽은 알림 수 (배지용, 목록을 불러오지 않고 조회)
+    @GetMapping("/unread-count")
+    public ResponseEntity<Map<String, Long>> getUnreadCount(
             @AuthenticationPrincipal Long userId
     ) {
-        return ResponseEntity.ok(notificationService.getMyNotifications(userId));
+        return ResponseEntity.ok(Map.of("unreadCount", notificationService.getUnreadCount(userId)));
     }
 
     // (선택) 알림 처리 완료 API (프론트에서 수락/거절 버튼 누른 후 호출)
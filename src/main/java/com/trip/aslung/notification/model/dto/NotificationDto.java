@@ -20,4 +20,9 @@ public class NotificationDto {
     private Integer isCompleted;     // 버튼 처리 여부 (초대장용)
     private boolean isRead;          // 읽음 여부
     private String createdAt;
+
+    // 묶음 알림 (같은 대상에 대한 좋아요 등)
+    private String groupKey;         // 묶음 기준 (없으면 단건 알림)
+    private Integer actorCount;      // 보낸 사람 수
+    private String recentActorIds;   // 최근 보낸 사람 ID (최신순, 콤마 구분)
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.trip.aslung.notification.model.dto;
+
+import lombok.Data;
+
+@Data
+public class NotificationOutbox {
+    private Long outboxId;
+    private String eventType;   // NotificationType
+    private Long senderId;
+    private Long receiverId;    // null 이면 게시글 작성자에게
+    private Long targetId;      // plan_id 또는 post_id
+    private String content;     // 완성된 메시지 또는 댓글 미리보기
+
+    // 발송 시 게시글 JOIN 으로 채움
+    private Long postWriterId;
+    private String postTitle;
+}
@@ -0,0 +1,17 @@
+package com.trip.aslung.notification.model.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 알림이 저장되었을 때 발행 (커밋 후 실시간 전송, 안 읽은 수 갱신)
+@Getter
+@AllArgsConstructor
+public class NotificationCreatedEvent {
+    private final List<Long> notificationIds;
+    private final Map<Long, Integer> insertedCountByUser; // 새로 생긴 알림 수 (받는 사람별)
+    private final Set<Long> aggregatedUserIds;            // 묶음 알림이 갱신된 받는 사람 (안 읽은 수를 다시 셈)
+}
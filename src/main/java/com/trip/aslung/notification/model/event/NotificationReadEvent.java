@@ -0,0 +1,11 @@
+package com.trip.aslung.notification.model.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 알림을 읽음 처리했을 때 발행 (커밋 후 안 읽은 수 갱신)
+@Getter
+@AllArgsConstructor
+public class NotificationReadEvent {
+    private final Long userId;
+}
@@ -1,9 +1,11 @@
 package com.trip.aslung.notification.model.mapper;
 
 import com.trip.aslung.notification.model.dto.NotificationDto;
+import com.trip.aslung.util.Cursor;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -12,12 +14,51 @@ public interface NotificationMapper {
     // 알림 저장
     void insertNotification(NotificationDto notificationDto);
 
-    // 내 알림 목록 조회 (보낸 사람 정보 포함)
-    List<NotificationDto> selectMyNotifications(Long userId);
+    // 알림 여러 건 저장 (생성된 ID 채움)
+    void insertNotifications(@Param("notifications") List<NotificationDto> notifications);
+
+    // 묶음 알림 저장 (같은 group_key 가 있으면 합침)
+    void upsertAggregatedNotifications(@Param("notifications") List<NotificationDto> notifications);
+
+    // 묶음 알림 보낸 사람 집합에 추가 (이미 있으면 무시)
+    void insertGroupActors(@Param("notifications") List<NotificationDto> notifications);
+
+    // 묶음 알림 보낸 사람 수 재계산 (새 사람이 늘었을 때만 다시 안 읽음)
+    void refreshAggregatedActors(@Param("groupKeys") List<String> groupKeys);
+
+    // 묶음 알림 ID 조회 (upsert 는 생성 ID 를 믿을 수 없어서 따로 조회)
+    List<Long> selectIdsByGroupKeys(@Param("groupKeys") List<String> groupKeys);
+
+    // 내 알림 목록 조회 (보낸 사람 정보 포함, 키셋 페이지네이션)
+    List<NotificationDto> selectMyNotifications(@Param("userId") Long userId,
+                                                @Param("cursor") Cursor cursor,
+                                                @Param("limit") int limit);
+
+    // 안 읽은 알림 수
+    long countUnread(Long userId);
+
+    // 알림 받는 사람 ID
+    Long selectReceiverId(Long notificationId);
+
+    // 알림 ID 목록으로 조회 (실시간 전송용)
+    List<NotificationDto> selectNotificationsByIds(@Param("notificationIds") List<Long> notificationIds);
 
     // 초대 처리 완료 상태 변경
     void updateCompleteStatus(@Param("notificationId") Long notificationId, @Param("code") int code);
 
-    // 알림 읽음 처리
-    void readAllNotifications(Long userId);
+    // 보관 기간이 지난 정리 대상 (오래된 순, 커서 이후)
+    List<Cursor> selectExpiredBatch(@Param("before") LocalDateTime before,
+                                    @Param("cursor") Cursor cursor,
+                                    @Param("limit") int limit);
+
+    // 보관 테이블로 복사 (조회 이후 다시 갱신된 알림은 제외)
+    int archiveNotifications(@Param("notificationIds") List<Long> notificationIds,
+                             @Param("before") LocalDateTime before);
+
+    // 알림 삭제 (조회 이후 다시 갱신된 알림은 제외)
+    int deleteNotifications(@Param("notificationIds") List<Long> notificationIds,
+                            @Param("before") LocalDateTime before);
+
+    // 전체 읽음 처리 (읽음 기준 시각 갱신)
+    void upsertReadMark(Long userId);
 }
\ No newline at end of file
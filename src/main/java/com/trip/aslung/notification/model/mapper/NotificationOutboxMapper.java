@@ -0,0 +1,35 @@
+package com.trip.aslung.notification.model.mapper;
+
+import com.trip.aslung.notification.model.dto.NotificationOutbox;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface NotificationOutboxMapper {
+
+    // 아웃박스 기록
+    void insertOutbox(NotificationOutbox outbox);
+
+    // 발송 대기 건 선점 (다른 노드가 잡은 행은 건너뜀), 게시글 작성자/제목 포함
+    List<NotificationOutbox> selectPendingForUpdate(@Param("limit") int limit);
+
+    // 일괄 처리 실패 시 한 건씩 처리할 대상
+    List<Long> selectPendingIds(@Param("limit") int limit);
+
+    // 한 건 선점 (다른 노드가 잡았거나 이미 처리됐으면 null)
+    NotificationOutbox selectPendingByIdForUpdate(@Param("outboxId") Long outboxId);
+
+    // 한 건 처리 실패 기록 (한도에 닿으면 발송 대상에서 제외)
+    void recordFailure(@Param("outboxId") Long outboxId,
+                       @Param("error") String error,
+                       @Param("retryDelaySeconds") long retryDelaySeconds,
+                       @Param("maxAttempts") int maxAttempts);
+
+    // 재시도해도 처리할 수 없는 행을 바로 제외
+    void markFailed(@Param("outboxId") Long outboxId, @Param("error") String error);
+
+    // 발송 완료 건 삭제
+    void deleteOutbox(@Param("outboxIds") List<Long> outboxIds);
+}
@@ -0,0 +1,189 @@
+package com.trip.aslung.notification.model.service;
+
+import com.trip.aslung.notification.model.NotificationType;
+import com.trip.aslung.notification.model.dto.NotificationDto;
+import com.trip.aslung.notification.model.dto.NotificationOutbox;
+import com.trip.aslung.notification.model.event.NotificationCreatedEvent;
+import com.trip.aslung.notification.model.mapper.NotificationMapper;
+import com.trip.aslung.notification.model.mapper.NotificationOutboxMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 아웃박스 발송기.
+ * 1. 대기 중인 아웃박스 행을 선점 (SKIP LOCKED 라 여러 노드가 동시에 돌아도 겹치지 않음)
+ * 2. 게시글 작성자/제목은 선점 쿼리의 JOIN 으로 한 번에 가져옴
+ * 3. 알림을 한 번에 저장하고 아웃박스 행 삭제, 커밋 후 실시간 전송
+ * 4. 좋아요처럼 몰려오는 알림은 (받는 사람, 종류, 대상, 시간 구간) 별로 한 행에 모아서 upsert,
+ *    보낸 사람 수는 묶음별 보낸 사람 집합(notification_group_actors)으로 세서 같은 사람은 한 번만 셈
+ * 5. 일괄 처리가 실패하면 한 건씩 다시 처리해서, 실패한 행만 재시도 간격을 두고 기록하고
+ *    한도를 넘으면 failed_at 으로 발송 대상에서 제외 (한 행 때문에 전체가 막히지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+    private final NotificationOutboxMapper notificationOutboxMapper;
+    private final NotificationMapper notificationMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // 한 행으로 모으는 알림 종류
+    private static final Set<NotificationType> AGGREGATED_TYPES = EnumSet.of(NotificationType.POST_LIKE);
+
+    @Value("${aslung.notification.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${aslung.notification.aggregate-window-minutes:1440}")
+    private long aggregateWindowMinutes;
+
+    @Value("${aslung.notification.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${aslung.notification.outbox.retry-delay-seconds:30}")
+    private long retryDelaySeconds;
+
+    @Scheduled(fixedDelayString = "${aslung.notification.outbox.poll-ms:500}")
+    public void dispatch() {
+        // 1. 평소에는 한 트랜잭션에서 일괄 처리
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    process(notificationOutboxMapper.selectPendingForUpdate(batchSize)));
+            return;
+        } catch (RuntimeException e) {
+            log.warn("알림 일괄 발송 실패, 한 건씩 다시 처리합니다.", e);
+        }
+
+        // 2. 일괄 처리가 실패하면 한 건씩 처리해서 문제 있는 행만 실패로 기록하고 나머지는 발송
+        for (Long outboxId : notificationOutboxMapper.selectPendingIds(batchSize)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    NotificationOutbox event = notificationOutboxMapper.selectPendingByIdForUpdate(outboxId);
+                    if (event != null) process(List.of(event));
+                });
+            } catch (RuntimeException e) {
+                log.error("알림 발송 실패 - outboxId: {}", outboxId, e);
+                transactionTemplate.executeWithoutResult(status ->
+                        notificationOutboxMapper.recordFailure(outboxId, errorOf(e), retryDelaySeconds, maxAttempts));
+            }
+        }
+    }
+
+    private void process(List<NotificationOutbox> events) {
+        if (events.isEmpty()) return;
+
+        // 1. 알림으로 변환 (받는 사람이 없거나 본인이면 제외), 단건/묶음 분리
+        long bucket = System.currentTimeMillis() / (aggregateWindowMinutes * 60_000L);
+        List<NotificationDto> notifications = new ArrayList<>();
+        List<NotificationDto> aggregated = new ArrayList<>();
+        List<Long> outboxIds = new ArrayList<>();
+        for (NotificationOutbox event : events) {
+            NotificationType type = typeOf(event);
+            if (type == null) continue;
+            outboxIds.add(event.getOutboxId());
+
+            NotificationDto notification = toNotification(event, type);
+            if (notification == null) continue;
+
+            if (AGGREGATED_TYPES.contains(type)) {
+                notification.setGroupKey(groupKeyOf(notification, bucket));
+                aggregated.add(notification);
+            } else {
+                notifications.add(notification);
+            }
+        }
+
+        // 2. 저장 + 아웃박스 정리
+        List<Long> notificationIds = new ArrayList<>();
+        if (!notifications.isEmpty()) {
+            notificationMapper.insertNotifications(notifications);
+            notifications.forEach(n -> notificationIds.add(n.getNotificationId()));
+        }
+        if (!aggregated.isEmpty()) {
+            // 알림 행(잠금) -> 보낸 사람 집합 -> 인원 재계산 순서 (같은 묶음은 행 잠금으로 차례대로 처리됨)
+            List<String> groupKeys = aggregated.stream().map(NotificationDto::getGroupKey).distinct().toList();
+            notificationMapper.upsertAggregatedNotifications(aggregated);
+            notificationMapper.insertGroupActors(aggregated);
+            notificationMapper.refreshAggregatedActors(groupKeys);
+
+            // upsert 는 합쳐진 행의 ID 를 돌려주지 않으므로 group_key 로 다시 조회
+            notificationIds.addAll(notificationMapper.selectIdsByGroupKeys(groupKeys));
+        }
+        if (!notificationIds.isEmpty()) {
+            Map<Long, Integer> insertedCountByUser = new HashMap<>();
+            notifications.forEach(n -> insertedCountByUser.merge(n.getUserId(), 1, Integer::sum));
+            Set<Long> aggregatedUserIds = aggregated.stream().map(NotificationDto::getUserId).collect(Collectors.toSet());
+
+            eventPublisher.publishEvent(new NotificationCreatedEvent(notificationIds, insertedCountByUser, aggregatedUserIds));
+        }
+        if (!outboxIds.isEmpty()) {
+            notificationOutboxMapper.deleteOutbox(outboxIds);
+        }
+
+        log.debug("알림 발송 - 아웃박스 {}건, 단건 {}건, 묶음 {}건", outboxIds.size(), notifications.size(), aggregated.size());
+    }
+
+    // 알 수 없는 알림 종류는 재시도해도 같으므로 바로 실패 처리
+    private NotificationType typeOf(NotificationOutbox event) {
+        try {
+            return NotificationType.valueOf(event.getEventType());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            log.error("알 수 없는 알림 종류 - outboxId: {}, eventType: {}", event.getOutboxId(), event.getEventType());
+            notificationOutboxMapper.markFailed(event.getOutboxId(), "알 수 없는 알림 종류: " + event.getEventType());
+            return null;
+        }
+    }
+
+    private String errorOf(RuntimeException e) {
+        String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    // 받는 사람:종류:대상:시간 구간 (구간이 바뀌면 새 행으로 시작)
+    private String groupKeyOf(NotificationDto notification, long bucket) {
+        return notification.getUserId() + ":" + notification.getNotificationType() + ":"
+                + notification.getTargetId() + ":" + bucket;
+    }
+
+    private NotificationDto toNotification(NotificationOutbox event, NotificationType type) {
+        Long receiverId = (event.getReceiverId() != null) ? event.getReceiverId() : event.getPostWriterId();
+        if (receiverId == null || receiverId.equals(event.getSenderId())) return null;
+
+        NotificationDto dto = new NotificationDto();
+        dto.setSenderId(event.getSenderId());
+        dto.setUserId(receiverId);
+        dto.setNotificationType(type.name());
+        dto.setTargetId(event.getTargetId());
+        dto.setContent(contentOf(type, event));
+
+        // "초대장(PLAN_INVITE)"만 처음에 미완료(0), 나머지는 버튼이 필요 없으니 완료(1)
+        dto.setIsCompleted(type == NotificationType.PLAN_INVITE ? 0 : 1);
+        return dto;
+    }
+
+    private String contentOf(NotificationType type, NotificationOutbox event) {
+        if (type == NotificationType.POST_LIKE) {
+            return "님이 회원님의 여행기를 좋아합니다.";
+        }
+        if (type == NotificationType.POST_COMMENT) {
+            // [메인 메시지] || [댓글 내용] 형태
+            String postTitle = (event.getPostTitle() != null) ? event.getPostTitle() : "여행기";
+            return "님이 회원님의 " + postTitle + "에 댓글을 남겼습니다.||" + event.getContent();
+        }
+        return event.getContent();
+    }
+}
@@ -0,0 +1,163 @@
+package com.trip.aslung.notification.model.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trip.aslung.config.ServerNode;
+import com.trip.aslung.notification.model.dto.NotificationDto;
+import com.trip.aslung.notification.model.event.NotificationCreatedEvent;
+import com.trip.aslung.notification.model.mapper.NotificationMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 알림 실시간 전송 (/user/queue/notifications).
+ * - ws:user:{userId} (SET) 사용자의 소켓이 연결된 노드 ID 목록
+ * - ws:node:{nodeId} (채널) 다른 노드에 연결된 사용자에게 보낼 알림
+ * 알림이 커밋되면 수신자가 연결된 노드로만 보내고, 연결이 없으면 보내지 않는다 (다음 목록 조회 때 확인).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationPushService implements MessageListener {
+
+    private static final String USER_NODES_PREFIX = "ws:user:";
+    private static final String NODE_CHANNEL_PREFIX = "ws:node:";
+    private static final String DESTINATION = "/queue/notifications";
+
+    private final NotificationMapper notificationMapper;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final ServerNode serverNode;
+
+    // 이 노드의 sessionId -> userId, userId -> 세션 수
+    private final Map<String, Long> sessionUsers = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> localUserSessions = new ConcurrentHashMap<>();
+
+    @Value("${aslung.notification.registry-ttl-seconds:180}")
+    private long registryTtlSeconds;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(NODE_CHANNEL_PREFIX + serverNode.getId()));
+    }
+
+    // 1. 연결/종료 시 사용자 -> 노드 등록
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        Principal user = event.getUser();
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (user == null || sessionId == null) return;
+
+        Long userId = Long.valueOf(user.getName());
+        sessionUsers.put(sessionId, userId);
+        localUserSessions.compute(userId, (k, count) -> {
+            if (count == null) {
+                register(k);
+                return 1;
+            }
+            return count + 1;
+        });
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Long userId = sessionUsers.remove(event.getSessionId());
+        if (userId == null) return;
+
+        localUserSessions.computeIfPresent(userId, (k, count) -> {
+            if (count > 1) return count - 1;
+            redisTemplate.opsForSet().remove(USER_NODES_PREFIX + k, serverNode.getId());
+            return null;
+        });
+    }
+
+    // 노드가 비정상 종료되어도 등록 정보가 남지 않도록 TTL 을 두고 주기적으로 갱신
+    @Scheduled(fixedDelayString = "${aslung.notification.registry-refresh-ms:60000}")
+    public void refreshRegistry() {
+        localUserSessions.keySet().forEach(this::register);
+    }
+
+    // 2. 알림 저장이 커밋되면 수신자에게 전송
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        if (event.getNotificationIds().isEmpty()) return;
+
+        try {
+            List<NotificationDto> notifications = notificationMapper.selectNotificationsByIds(event.getNotificationIds());
+            notifications.forEach(this::push);
+        } catch (RuntimeException e) {
+            // 전송 실패해도 알림은 저장되어 있으므로 목록 조회로 확인 가능
+            log.error("알림 실시간 전송 실패: ", e);
+        }
+    }
+
+    // 3. 다른 노드에서 보낸 알림을 이 노드의 세션으로 전달
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            PushEnvelope envelope = objectMapper.readValue(message.getBody(), PushEnvelope.class);
+            deliver(envelope.userId(), envelope.notification());
+        } catch (IOException e) {
+            log.error("알림 전달 메시지 역직렬화 실패", e);
+        }
+    }
+
+    private void push(NotificationDto notification) {
+        Set<Object> nodes = redisTemplate.opsForSet().members(USER_NODES_PREFIX + notification.getUserId());
+        if (nodes == null || nodes.isEmpty()) return;
+
+        for (Object node : nodes) {
+            if (serverNode.getId().equals(node)) {
+                deliver(notification.getUserId(), notification);
+                continue;
+            }
+            try {
+                redisTemplate.convertAndSend(NODE_CHANNEL_PREFIX + node,
+                        objectMapper.writeValueAsString(new PushEnvelope(notification.getUserId(), notification)));
+            } catch (JsonProcessingException e) {
+                log.error("알림 전달 메시지 직렬화 실패", e);
+            }
+        }
+    }
+
+    private void deliver(Long userId, NotificationDto notification) {
+        messagingTemplate.convertAndSendToUser(String.valueOf(userId), DESTINATION, notification);
+    }
+
+    private void register(Long userId) {
+        String key = USER_NODES_PREFIX + userId;
+        redisTemplate.opsForSet().add(key, serverNode.getId());
+        redisTemplate.expire(key, Duration.ofSeconds(registryTtlSeconds));
+    }
+
+    private record PushEnvelope(Long userId, NotificationDto notification) {
+    }
+}
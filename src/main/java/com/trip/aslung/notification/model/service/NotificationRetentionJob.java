@@ -0,0 +1,152 @@
+package com.trip.aslung.notification.model.service;
+
+import com.trip.aslung.config.ServerNode;
+import com.trip.aslung.notification.model.mapper.NotificationMapper;
+import com.trip.aslung.util.Cursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 오래된 알림 정리.
+ * 1. 여러 노드 중 한 곳만 돌도록 Redis 락 (SET NX)
+ * 2. (created_at, notification_id) 인덱스를 따라 작은 배치로 대상 조회 (읽음 + 처리 완료 + 보관 기간 경과)
+ * 3. 배치마다 짧은 트랜잭션으로 보관(선택) + 삭제, 배치 사이에 쉬어서 락을 오래 잡지 않음
+ */
+@Slf4j
+@Component
+public class NotificationRetentionJob {
+
+    private static final String LOCK_KEY = "lock:notification-retention";
+
+    // 내가 잡은 락일 때만 해제
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final NotificationMapper notificationMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ServerNode serverNode;
+
+    private final Counter removedCounter;
+    private final Counter archivedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lastRunRows = new AtomicLong();
+    private final AtomicLong lastRunAt = new AtomicLong();
+
+    @Value("${aslung.notification.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${aslung.notification.retention.max-age-days:90}")
+    private long maxAgeDays;
+
+    @Value("${aslung.notification.retention.archive:false}")
+    private boolean archive;
+
+    @Value("${aslung.notification.retention.batch-size:500}")
+    private int batchSize;
+
+    @Value("${aslung.notification.retention.pause-ms:200}")
+    private long pauseMs;
+
+    @Value("${aslung.notification.retention.max-run-minutes:20}")
+    private long maxRunMinutes;
+
+    public NotificationRetentionJob(NotificationMapper notificationMapper,
+                                    TransactionTemplate transactionTemplate,
+                                    RedisTemplate<String, Object> redisTemplate,
+                                    ServerNode serverNode,
+                                    MeterRegistry meterRegistry) {
+        this.notificationMapper = notificationMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.redisTemplate = redisTemplate;
+        this.serverNode = serverNode;
+
+        this.removedCounter = Counter.builder("aslung.notification.retention.removed")
+                .description("보관 기간이 지나 삭제한 알림 수")
+                .register(meterRegistry);
+        this.archivedCounter = Counter.builder("aslung.notification.retention.archived")
+                .description("보관 테이블로 옮긴 알림 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("aslung.notification.retention.batch")
+                .description("정리 배치 한 번 처리 시간")
+                .register(meterRegistry);
+        Gauge.builder("aslung.notification.retention.last-run.rows", lastRunRows, AtomicLong::get)
+                .description("마지막 정리에서 지운 알림 수")
+                .register(meterRegistry);
+        Gauge.builder("aslung.notification.retention.last-run.timestamp", lastRunAt, AtomicLong::get)
+                .description("마지막 정리가 끝난 시각 (epoch ms)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${aslung.notification.retention.cron:0 30 4 * * *}")
+    public void run() {
+        if (!enabled) return;
+
+        // 1. 락 (최대 실행 시간만큼만 유지)
+        String token = serverNode.getId() + ":" + System.nanoTime();
+        Boolean locked = redisTemplate.opsForValue()
+                .setIfAbsent(LOCK_KEY, token, Duration.ofMinutes(maxRunMinutes));
+        if (!Boolean.TRUE.equals(locked)) return;
+
+        try {
+            long removed = purge(LocalDateTime.now().minusDays(maxAgeDays));
+            lastRunRows.set(removed);
+            lastRunAt.set(System.currentTimeMillis());
+            log.info("알림 정리 완료 - {}건 ({})", removed, archive ? "archive" : "delete");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK, List.of(LOCK_KEY), token);
+        }
+    }
+
+    private long purge(LocalDateTime before) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + Duration.ofMinutes(maxRunMinutes).toMillis();
+        long removed = 0;
+        Cursor cursor = null;
+
+        while (System.currentTimeMillis() < deadline) {
+            // 2. 대상 조회 (트랜잭션 밖, 잠금 없음)
+            List<Cursor> batch = notificationMapper.selectExpiredBatch(before, cursor, batchSize);
+            if (batch.isEmpty()) break;
+
+            List<Long> ids = batch.stream().map(Cursor::getId).toList();
+            cursor = batch.get(batch.size() - 1);
+
+            // 3. 보관 + 삭제 (배치 하나만큼의 짧은 트랜잭션, 대상 조건은 쓰는 시점에 다시 확인)
+            Integer deleted = batchTimer.record(() -> transactionTemplate.execute(status -> {
+                if (archive) {
+                    archivedCounter.increment(notificationMapper.archiveNotifications(ids, before));
+                }
+                return notificationMapper.deleteNotifications(ids, before);
+            }));
+            if (deleted != null) {
+                removed += deleted;
+                removedCounter.increment(deleted);
+            }
+
+            if (batch.size() < batchSize) break;
+            Thread.sleep(pauseMs);
+        }
+        return removed;
+    }
+}
@@ -2,11 +2,18 @@ package com.trip.aslung.notification.model.service;
 
 import com.trip.aslung.notification.model.NotificationType;
 import com.trip.aslung.notification.model.dto.NotificationDto;
+import com.trip.aslung.notification.model.dto.NotificationOutbox;
+import com.trip.aslung.notification.model.event.NotificationReadEvent;
 import com.trip.aslung.notification.model.mapper.NotificationMapper;
+import com.trip.aslung.notification.model.mapper.NotificationOutboxMapper;
+import com.trip.aslung.util.Cursor;
+import com.trip.aslung.util.CursorPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -14,46 +21,71 @@ import java.util.List;
 public class NotificationService {
 
     private final NotificationMapper notificationMapper;
+    private final NotificationOutboxMapper notificationOutboxMapper;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_PAGE_SIZE = 50;
 
     // ★ [핵심] 알림 전송 공통 메서드 (다른 서비스들이 호출)
+    // 호출한 트랜잭션에서는 아웃박스에만 기록하고, 실제 저장/전송은 NotificationDispatcher 가 처리
     @Transactional
     public void send(Long senderId, Long receiverId, NotificationType type, Long targetId, String content) {
         // 나에게 보내는 알림은 저장하지 않음 (선택사항)
         if (senderId.equals(receiverId)) return;
 
-        NotificationDto dto = new NotificationDto();
-        dto.setSenderId(senderId);
-        dto.setUserId(receiverId);
-        dto.setNotificationType(type.name());
-        dto.setTargetId(targetId);
-        dto.setContent(content);
+        enqueue(senderId, receiverId, type, targetId, content);
+    }
 
-        // "초대장(PLAN_INVITE)"만 처음에 미완료(false)
-        // 나머지(댓글, 좋아요 등)는 버튼이 필요 없으니 처음부터 완료(true)
-        boolean isCompleted = !type.equals(NotificationType.PLAN_INVITE);
-        if (type == NotificationType.PLAN_INVITE) {
-            dto.setIsCompleted(0); // 미완료 (버튼 보임)
-        } else {
-            dto.setIsCompleted(1); // 완료 (버튼 안 보임)
-        }
+    // 게시글 작성자에게 보내는 알림 (작성자/게시글 제목은 발송 시 한 번에 조회)
+    @Transactional
+    public void sendToPostWriter(Long senderId, NotificationType type, Long postId, String preview) {
+        enqueue(senderId, null, type, postId, preview);
+    }
 
-        notificationMapper.insertNotification(dto);
+    // 내 알림 목록 조회 (커서 기반, 다음 페이지 확인용으로 1개 더 조회)
+    public CursorPage<NotificationDto> getMyNotifications(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<NotificationDto> rows = notificationMapper.selectMyNotifications(userId, Cursor.decode(cursor), pageSize + 1);
+        return CursorPage.of(rows, pageSize, n -> new Cursor(parseCreatedAt(n.getCreatedAt()), n.getNotificationId()));
     }
 
-    // 내 알림 목록 조회
-    public List<NotificationDto> getMyNotifications(Long userId) {
-        return notificationMapper.selectMyNotifications(userId);
+    // 안 읽은 알림 수 (배지용)
+    public long getUnreadCount(Long userId) {
+        return notificationUnreadCounter.getUnreadCount(userId);
     }
 
     // 알림 처리 완료 (초대 수락/거절 시 호출)
 // 알림 처리 완료 (status: 1=수락, 2=거절)
+    @Transactional
     public void completeNotification(Long notificationId, int code) {
+        Long userId = notificationMapper.selectReceiverId(notificationId);
+        if (userId == null) return;
+
         notificationMapper.updateCompleteStatus(notificationId, code);
+        eventPublisher.publishEvent(new NotificationReadEvent(userId));
     }
 
-    //  알림 전체 읽음 처리
+    //  알림 전체 읽음 처리 (읽음 기준 시각만 갱신)
     @Transactional
     public void readAllNotifications(Long userId) {
-        notificationMapper.readAllNotifications(userId);
+        notificationMapper.upsertReadMark(userId);
+        eventPublisher.publishEvent(new NotificationReadEvent(userId));
+    }
+
+    // DB 시각 문자열 ("yyyy-MM-dd HH:mm:ss") -> 커서용 시각
+    private LocalDateTime parseCreatedAt(String createdAt) {
+        return LocalDateTime.parse(createdAt.replace(' ', 'T'));
+    }
+
+    private void enqueue(Long senderId, Long receiverId, NotificationType type, Long targetId, String content) {
+        NotificationOutbox outbox = new NotificationOutbox();
+        outbox.setEventType(type.name());
+        outbox.setSenderId(senderId);
+        outbox.setReceiverId(receiverId);
+        outbox.setTargetId(targetId);
+        outbox.setContent(content);
+
+        notificationOutboxMapper.insertOutbox(outbox);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package com.trip.aslung.notification.model.service;
+
+import com.trip.aslung.notification.model.event.NotificationCreatedEvent;
+import com.trip.aslung.notification.model.event.NotificationReadEvent;
+import com.trip.aslung.notification.model.mapper.NotificationMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 안 읽은 알림 수 (NU:{userId}).
+ * - 조회: Redis 값이 있으면 그대로, 없으면 DB 에서 세고 저장
+ * - 새 알림: 값이 있을 때만 증가 (없으면 다음 조회 때 DB 에서 셈)
+ * - 묶음 알림 갱신 / 읽음 처리: 값 삭제 (이미 안 읽은 행이 다시 갱신됐는지 알 수 없으므로 다시 셈)
+ * 변경마다 세대 번호(NUG:{userId})를 올리고, DB 에서 센 값은 세기 시작할 때와 세대가 같을 때만 저장해서
+ * 세는 도중 커밋된 변경이 빠진 값이 TTL 동안 남지 않게 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationUnreadCounter {
+
+    private static final String KEY_PREFIX = "NU:";
+    private static final String GENERATION_PREFIX = "NUG:";
+
+    // 세대를 올리고, 키가 있을 때만 증가 (없는 키를 1 로 만들면 실제보다 작은 값이 남음)
+    private static final RedisScript<Long> INCR_IF_EXISTS = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[2]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  return redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "end " +
+            "return -1",
+            Long.class);
+
+    // 세대를 올리고 값 삭제
+    private static final RedisScript<Long> INVALIDATE = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "return redis.call('DEL', KEYS[1])",
+            Long.class);
+
+    // 세기 시작할 때와 세대가 같고 값이 아직 없을 때만 저장
+    private static final RedisScript<Long> SET_IF_GENERATION = new DefaultRedisScript<>(
+            "local generation = redis.call('GET', KEYS[2]) or '0' " +
+            "if generation ~= ARGV[1] then return 0 end " +
+            "if redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3], 'NX') then return 1 end " +
+            "return 0",
+            Long.class);
+
+    private final NotificationMapper notificationMapper;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${aslung.notification.unread-ttl-minutes:30}")
+    private long ttlMinutes;
+
+    public long getUnreadCount(Long userId) {
+        String key = KEY_PREFIX + userId;
+        Object cached = redisTemplate.opsForValue().get(key);
+        if (cached != null) {
+            return Long.parseLong(cached.toString());
+        }
+
+        // 세대를 먼저 읽고 세어야, 세는 도중의 변경을 저장 단계에서 알아챌 수 있음
+        String generationKey = GENERATION_PREFIX + userId;
+        Object generation = redisTemplate.opsForValue().get(generationKey);
+
+        long count = notificationMapper.countUnread(userId);
+        redisTemplate.execute(SET_IF_GENERATION, List.of(key, generationKey),
+                generation == null ? "0" : generation.toString(), String.valueOf(count), String.valueOf(ttlSeconds()));
+        return count;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCreated(NotificationCreatedEvent event) {
+        event.getInsertedCountByUser().forEach((userId, count) ->
+                redisTemplate.execute(INCR_IF_EXISTS, List.of(KEY_PREFIX + userId, GENERATION_PREFIX + userId),
+                        String.valueOf(count), String.valueOf(generationTtlSeconds())));
+
+        event.getAggregatedUserIds().forEach(this::invalidate);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRead(NotificationReadEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    private void invalidate(Long userId) {
+        redisTemplate.execute(INVALIDATE, List.of(KEY_PREFIX + userId, GENERATION_PREFIX + userId),
+                String.valueOf(generationTtlSeconds()));
+    }
+
+    private long ttlSeconds() {
+        return Duration.ofMinutes(ttlMinutes).toSeconds();
+    }
+
+    // 세대 키는 진행 중인 조회보다 오래 살아 있으면 충분
+    private long generationTtlSeconds() {
+        return ttlSeconds() * 2;
+    }
+}
@@ -1,11 +1,17 @@
 package com.trip.aslung.plan.controller;
 
 import com.trip.aslung.plan.model.dto.*;
+import com.trip.aslung.plan.model.service.PlanPresenceService;
 import com.trip.aslung.plan.model.service.PlanService;
+import com.trip.aslung.plan.model.service.PlanVersionService;
 import com.trip.aslung.planMember.model.dto.InvitationResponse;
+import com.trip.aslung.planMember.model.dto.PlanMember;
+import com.trip.aslung.planMember.model.service.PlanMemberCache;
 import com.trip.aslung.planMember.model.service.PlanMemberService;
+import com.trip.aslung.util.CursorPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -22,12 +28,16 @@ public class PlanController {
 
     private final PlanService planService;
     private final PlanMemberService planMemberService;
+    private final PlanPresenceService planPresenceService;
+    private final PlanMemberCache planMemberCache;
 
     @GetMapping
-    public ResponseEntity<List<PlanListResponse>> getMyPlans(
-            @AuthenticationPrincipal Long userId
+    public ResponseEntity<CursorPage<PlanListResponse>> getMyPlans(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
     ){
-        List<PlanListResponse> myPlans = planService.getMyPlans(userId);
+        CursorPage<PlanListResponse> myPlans = planService.getMyPlans(userId, cursor, size);
         return ResponseEntity.ok(myPlans);
     }
 
@@ -43,10 +53,33 @@ public class PlanController {
     @GetMapping("/{planId}")
     public ResponseEntity<PlanDetailResponse> getPlanDetail(
             @AuthenticationPrincipal Long userId,
-            @PathVariable("planId") Long planId
+            @PathVariable("planId") Long planId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ){
+        // 1. 권한 확인 후 버전이 그대로면 상세 조회 없이 304
+        String eTag = planService.getPlanETag(userId, planId);
+        if (eTag != null && eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        // 2. 바뀌었으면 조회한 버전으로 ETag 를 붙여서 응답
         PlanDetailResponse planDetail = planService.getPlanDetail(userId, planId);
-        return ResponseEntity.ok(planDetail);
+        return ResponseEntity.ok()
+                .eTag(PlanVersionService.toETag(planDetail.getVersion()))
+                .body(planDetail);
+    }
+
+    // 플랜 방 접속자 목록 (STOMP 구독과 같이 참여 중인 멤버만)
+    @GetMapping("/{planId}/presence")
+    public ResponseEntity<List<PresenceMember>> getPresence(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable("planId") Long planId
+    ){
+        PlanMember member = planMemberCache.find(planId, userId);
+        if (member == null || !"JOINED".equals(member.getStatus())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(planPresenceService.getMembers(planId));
     }
 
     @PatchMapping("/{planId}")
@@ -94,10 +127,11 @@ public class PlanController {
     @PostMapping("/{planId}/copy")
     public ResponseEntity<Long> copyPlan(
             @PathVariable("planId") Long sourcePlanId,
-            @RequestParam("userId") Long userId
+            @RequestParam("userId") Long userId,
+            @RequestParam(value = "fork", defaultValue = "false") boolean fork
     ) {
         // 서비스에서 복사 수행 후 새로 생성된 planId 반환
-        Long newPlanId = planService.copyPlan(sourcePlanId, userId);
+        Long newPlanId = planService.copyPlan(sourcePlanId, userId, fork);
         return new ResponseEntity<>(newPlanId, HttpStatus.CREATED);
     }
 }
@@ -1,15 +1,21 @@
 package com.trip.aslung.plan.controller;
 
+import com.trip.aslung.plan.model.dto.PlanSchedule;
 import com.trip.aslung.plan.model.dto.ScheduleAddRequest;
+import com.trip.aslung.plan.model.dto.ScheduleBatchRequest;
 import com.trip.aslung.plan.model.dto.ScheduleMoveRequest;
 import com.trip.aslung.plan.model.dto.ScheduleUpdateRequest;
+import com.trip.aslung.plan.model.dto.SocketEventDTO;
 import com.trip.aslung.plan.model.service.PlanScheduleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/plans/{planId}/schedules")
 @RequiredArgsConstructor
@@ -17,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 public class ScheduleController {
 
     private final PlanScheduleService planScheduleService;
+    private final SimpMessagingTemplate messagingTemplate;
 
     // 세부 일정 등록
     @PostMapping
@@ -63,4 +70,23 @@ public class ScheduleController {
         planScheduleService.moveSchedule(userId,planId,scheduleId,request);
         return ResponseEntity.ok().build();
     }
-}
\ No newline at end of file
+
+    // 일정 일괄 처리 (AI 추천 일정 한 번에 담기 등)
+    @PostMapping("/batch")
+    public ResponseEntity<List<PlanSchedule>> applyBatch(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable Long planId,
+            @RequestBody ScheduleBatchRequest request
+    ){
+        // 빈 요청은 조회로 바꾸지 않고 거절
+        if (request.getOperations() == null || request.getOperations().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<PlanSchedule> schedules = planScheduleService.applyBatch(userId, planId, request);
+
+        // 작업이 여러 개여도 구독자에게는 저장된 결과로 이벤트 한 번만 전송
+        messagingTemplate.convertAndSend("/sub/plans/" + planId,
+                new SocketEventDTO("SCHEDULE_BATCH", planId, schedules));
+        return ResponseEntity.ok(schedules);
+    }
+}
@@ -1,16 +1,24 @@
 package com.trip.aslung.plan.controller;
 
+import com.trip.aslung.plan.model.dto.PlanSchedule;
+import com.trip.aslung.plan.model.dto.PresenceHeartbeatRequest;
 import com.trip.aslung.plan.model.dto.ScheduleAddRequest;
+import com.trip.aslung.plan.model.dto.ScheduleBatchRequest;
 import com.trip.aslung.plan.model.dto.ScheduleMoveRequest;
 import com.trip.aslung.plan.model.dto.ScheduleUpdateRequest;
+import com.trip.aslung.plan.model.dto.SocketEventDTO;
+import com.trip.aslung.plan.model.service.PlanPresenceService;
 import com.trip.aslung.plan.model.service.PlanScheduleService;
+import com.trip.aslung.plan.model.service.PlanUpdateCoalescer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
+import java.util.List;
 import java.util.Map;
 
 @Controller
@@ -19,6 +27,8 @@ public class ScheduleSocketController {
 
     private final PlanScheduleService planScheduleService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final PlanUpdateCoalescer planUpdateCoalescer;
+    private final PlanPresenceService planPresenceService;
 
     // 세부 일정 등록
     @MessageMapping("/plans/{planId}/schedules/add")
@@ -77,9 +87,37 @@ public class ScheduleSocketController {
         messagingTemplate.convertAndSend("/sub/plans/" + planId, "SCHEDULE_MOVED");
     }
 
-    // 새로고침 신호 전달
+    // 일정 일괄 처리
+    @MessageMapping("/plans/{planId}/schedules/batch")
+    public void applyBatch(
+            @DestinationVariable Long planId,
+            ScheduleBatchRequest request,
+            Principal principal
+    ) {
+        Long userId = Long.parseLong(principal.getName());
+        List<PlanSchedule> schedules = planScheduleService.applyBatch(userId, planId, request);
+
+        // 요청 원본이 아니라 저장된 결과(새 일정 ID 포함)를 전송
+        messagingTemplate.convertAndSend("/sub/plans/" + planId,
+                new SocketEventDTO("SCHEDULE_BATCH", planId, schedules));
+    }
+
+    // 접속 유지 + 보고 있는 일정 알림 (클라이언트가 주기적으로 전송)
+    @MessageMapping("/plans/{planId}/presence")
+    public void heartbeat(
+            @DestinationVariable Long planId,
+            PresenceHeartbeatRequest request,
+            SimpMessageHeaderAccessor headerAccessor
+    ) {
+        Long userId = (Long) headerAccessor.getSessionAttributes().get("userId");
+        if (userId == null) return;
+
+        planPresenceService.heartbeat(planId, userId, headerAccessor.getSessionId(), request.getScheduleId());
+    }
+
+    // 새로고침 신호 전달 (짧은 구간 안의 신호는 묶어서 전송)
     @MessageMapping("/plans/{planId}/update")
     public void broadcastUpdate(@DestinationVariable Long planId, Map<String, Object> payload) {
-        messagingTemplate.convertAndSend("/topic/plans/" + planId, payload);
+        planUpdateCoalescer.submit(planId, payload);
     }
 }
\ No newline at end of file
@@ -20,6 +20,8 @@ public class PlanDetailResponse {
     private LocalDate endDate;
     private Boolean isPublic;
     private Long ownerId;
+    private Long forkSourcePlanId; // 아직 일정을 복사하지 않은 포크면 원본 플랜 ID
+    private Long version;          // 변경될 때마다 증가 (ETag)
 
     // 2. 멤버 목록
     private List<PlanMember> members;
@@ -1,14 +1,20 @@
 package com.trip.aslung.plan.model.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
+
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class PlanListResponse {
     private Long planId;
     private String title;
@@ -17,6 +23,7 @@ public class PlanListResponse {
     private LocalDate endDate;
     private boolean isPublic;
     private Long ownerId;
+    private LocalDateTime createdAt; // 목록 정렬/커서 기준
 
     // DB 문자열 -> List로 변환해서 가져오기
     public List<String> getRegionList() {
@@ -0,0 +1,8 @@
+package com.trip.aslung.plan.model.dto;
+
+import lombok.Data;
+
+@Data
+public class PresenceHeartbeatRequest {
+    private Long scheduleId; // 보고 있는 일정 (없으면 null)
+}
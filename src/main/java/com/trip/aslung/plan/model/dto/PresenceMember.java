@@ -0,0 +1,12 @@
+package com.trip.aslung.plan.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PresenceMember {
+    private Long userId;
+    private Long scheduleId;  // 보고 있는 일정 (없으면 null)
+    private long lastSeenAt;  // 마지막 하트비트 (epoch millis)
+}
@@ -0,0 +1,19 @@
+package com.trip.aslung.plan.model.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ScheduleBatchRequest {
+    private List<Operation> operations; // 요청 순서대로 적용할 작업 목록
+
+    @Data
+    public static class Operation {
+        private String type;                    // ADD, MOVE, UPDATE, DELETE
+        private Long scheduleId;                // MOVE, UPDATE, DELETE 대상
+        private ScheduleAddRequest add;         // ADD 일 때
+        private ScheduleMoveRequest move;       // MOVE 일 때
+        private ScheduleUpdateRequest update;   // UPDATE 일 때
+    }
+}
@@ -0,0 +1,12 @@
+package com.trip.aslung.plan.model.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 플랜/멤버/일정 변경으로 플랜 버전이 올라갔을 때 발행
+@Getter
+@AllArgsConstructor
+public class PlanChangedEvent {
+    private final Long planId;
+    private final long version;
+}
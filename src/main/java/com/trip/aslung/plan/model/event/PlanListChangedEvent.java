@@ -0,0 +1,13 @@
+package com.trip.aslung.plan.model.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 플랜 제목/기간/공개 여부/삭제처럼 멤버 전원의 "내 플랜 목록"이 바뀌는 변경
+@Getter
+@AllArgsConstructor
+public class PlanListChangedEvent {
+    private final List<Long> userIds;
+}
@@ -4,9 +4,12 @@ import com.trip.aslung.plan.model.dto.Place;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 @Mapper
 public interface PlaceMapper {
     Place findByKakaoMapId(String kakaoMapId);
+    List<Place> findByKakaoMapIds(@Param("kakaoMapIds") List<String> kakaoMapIds);
     Place findByNameAndLocation(@Param("name") String name,
                                 @Param("lat") double lat,
                                 @Param("lng") double lng);
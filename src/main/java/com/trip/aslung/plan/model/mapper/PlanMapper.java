@@ -2,6 +2,7 @@ package com.trip.aslung.plan.model.mapper;
 
 import com.trip.aslung.plan.model.dto.*;
 import com.trip.aslung.planMember.model.dto.PlanMember;
+import com.trip.aslung.util.Cursor;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -9,11 +10,23 @@ import java.util.List;
 
 @Mapper
 public interface PlanMapper {
-    List<PlanListResponse> selectMyPlans(Long userId);
+    List<PlanListResponse> selectMyPlans(@Param("userId") Long userId,
+                                         @Param("cursor") Cursor cursor,
+                                         @Param("limit") int limit);
     PlanDetailResponse selectPlanDetail(@Param("planId") Long planId);
+    PlanDetailResponse selectPlanDetailWithChildren(@Param("planId") Long planId);
+    Long selectPlanVersion(Long planId);
+    void increaseVersion(Long planId);
     List<PlanMember> selectPlanMembers(Long planId);
     List<PlanSchedule> selectPlanSchedules(Long planId);
     void insertPlan(Plan plan);
+    void insertPlanCopy(@Param("plan") Plan plan,
+                        @Param("sourcePlanId") Long sourcePlanId,
+                        @Param("fork") boolean fork);
+    Long selectForkSourcePlanId(Long planId);
+    Long selectForkSourcePlanIdForUpdate(Long planId);
+    List<Long> selectPendingForkIdsForUpdate(@Param("sourcePlanId") Long sourcePlanId);
+    void clearForkSources(@Param("planIds") List<Long> planIds);
     void updatePlan(Plan plan);
     void deletePlan(Long planId, Long userId);
     void updatePlanVisibility(Long planId, boolean isPublic);
@@ -23,4 +23,10 @@ public interface PlanScheduleMapper {
     int selectMaxOrderIndex(Long planId, int dayNumber);
     List<PlanSchedule> selectSchedulesByPlanId(Long planId);
     void insertSchedule(PlanSchedule planSchedule);
+    List<PlanSchedule> selectMaxOrderIndexes(Long planId);
+    void insertSchedules(@Param("schedules") List<PlanSchedule> schedules);
+    void copySchedules(@Param("sourcePlanId") Long sourcePlanId, @Param("targetPlanId") Long targetPlanId);
+    void copyForkSchedules(@Param("forkPlanIds") List<Long> forkPlanIds);
+    void remapForkReviews(@Param("forkPlanIds") List<Long> forkPlanIds);
+    Long selectScheduleIdByOrigin(@Param("planId") Long planId, @Param("originScheduleId") Long originScheduleId);
 }
@@ -0,0 +1,97 @@
+package com.trip.aslung.plan.model.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.trip.aslung.plan.model.dto.PlanListResponse;
+import com.trip.aslung.plan.model.event.PlanListChangedEvent;
+import com.trip.aslung.planMember.model.event.PlanMemberChangedEvent;
+import com.trip.aslung.util.CursorPage;
+import com.trip.aslung.util.JsonRedisCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 "내 플랜 목록" 첫 페이지 캐시.
+ * 생성/복사/참여/탈퇴/강퇴는 멤버 변경 이벤트로, 수정/공개 설정/삭제는 목록 변경 이벤트로
+ * 커밋 후에 지운다. 다음 페이지부터는 커서 조회가 충분히 싸서 캐싱하지 않는다.
+ * 지우기 전에 DB 를 읽은 조회가 옛 목록을 다시 써넣지 않도록, 사용자마다 세대 번호(MPG:{userId})를 두고
+ * 조회 시작 때와 세대가 같을 때만 저장한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MyPlanListCache {
+
+    private static final String KEY_PREFIX = "MP:";
+    private static final String GENERATION_PREFIX = "MPG:";
+    private static final TypeReference<CursorPage<PlanListResponse>> PAGE_TYPE = new TypeReference<>() {};
+
+    // 세대가 조회 시작 때와 같을 때만 저장 (그 사이에 evict 가 있었으면 옛 값이므로 버림)
+    private static final RedisScript<Long> SET_IF_GENERATION = new DefaultRedisScript<>(
+            "local generation = redis.call('GET', KEYS[2]) or '0' " +
+            "if generation ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    // 세대를 올리고 값을 지움
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return 1",
+            Long.class);
+
+    private final JsonRedisCache jsonRedisCache;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${aslung.my-plan-cache.ttl-minutes:5}")
+    private long ttlMinutes;
+
+    public CursorPage<PlanListResponse> get(Long userId) {
+        return jsonRedisCache.get(key(userId), PAGE_TYPE);
+    }
+
+    // DB 조회 전에 읽어 두고 put 에 넘김
+    public String generation(Long userId) {
+        Object generation = redisTemplate.opsForValue().get(generationKey(userId));
+        return generation == null ? "0" : generation.toString();
+    }
+
+    public void put(Long userId, String generation, CursorPage<PlanListResponse> page) {
+        String json = jsonRedisCache.toJson(key(userId), page);
+        if (json == null) return;
+
+        redisTemplate.execute(SET_IF_GENERATION, List.of(key(userId), generationKey(userId)),
+                generation, json, String.valueOf(TimeUnit.MINUTES.toSeconds(ttlMinutes)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlanMemberChanged(PlanMemberChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlanListChanged(PlanListChangedEvent event) {
+        event.getUserIds().forEach(this::evict);
+    }
+
+    private void evict(Long userId) {
+        redisTemplate.execute(EVICT, List.of(key(userId), generationKey(userId)),
+                String.valueOf(TimeUnit.MINUTES.toSeconds(ttlMinutes) * 2));
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private String generationKey(Long userId) {
+        return GENERATION_PREFIX + userId;
+    }
+}
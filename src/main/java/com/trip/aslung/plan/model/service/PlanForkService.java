@@ -0,0 +1,86 @@
+package com.trip.aslung.plan.model.service;
+
+import com.trip.aslung.plan.model.mapper.PlanMapper;
+import com.trip.aslung.plan.model.mapper.PlanScheduleMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 포크(Copy-on-Write) 플랜의 일정 복사.
+ * 포크는 복사 전까지 원본 일정을 그대로 읽으므로, 포크 자신이든 원본이든 일정이 바뀌기 직전에
+ * 복사해서 포크 시점의 스냅샷으로 굳힌다. 모든 메서드는 호출한 쓰기 트랜잭션 안에서 실행되어야 한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PlanForkService {
+
+    private final PlanMapper planMapper;
+    private final PlanScheduleMapper planScheduleMapper;
+    private final PlanVersionService planVersionService;
+
+    // 플랜 일정을 바꾸기 전에 호출 (자신이 포크면 복사 + 자신을 원본으로 둔 포크도 복사)
+    public void prepareWrite(Long planId) {
+        prepareWrite(planMapper, planScheduleMapper, planId);
+    }
+
+    // BATCH 세션 매퍼를 써야 하는 트랜잭션용
+    public void prepareWrite(PlanMapper planMapper, PlanScheduleMapper planScheduleMapper, Long planId) {
+        materializeFork(planMapper, planScheduleMapper, planId);
+        materializeForksOf(planMapper, planScheduleMapper, planId);
+    }
+
+    // 플랜을 삭제하기 전에 호출 (원본이 사라져도 포크 일정은 남도록)
+    public void prepareDelete(Long planId) {
+        materializeForksOf(planMapper, planScheduleMapper, planId);
+    }
+
+    // 클라이언트가 복사 전 원본 일정 ID를 들고 있으면 복사된 일정 ID로 바꿔줌 (복사 이후 언제 와도 동작)
+    public Long resolveScheduleId(PlanScheduleMapper planScheduleMapper, Long planId, Long scheduleId) {
+        if (scheduleId == null) return null;
+        Long copiedId = planScheduleMapper.selectScheduleIdByOrigin(planId, scheduleId);
+        return copiedId != null ? copiedId : scheduleId;
+    }
+
+    // 포크 자신의 첫 수정
+    private void materializeFork(PlanMapper planMapper, PlanScheduleMapper planScheduleMapper, Long planId) {
+        // 대부분은 포크가 아니므로 잠금 없이 먼저 확인
+        if (planMapper.selectForkSourcePlanId(planId) == null) return;
+
+        // 동시에 들어온 첫 수정(원본 수정 포함)끼리는 포크 행 잠금 후 다시 확인해서 한 번만 복사
+        Long sourcePlanId = planMapper.selectForkSourcePlanIdForUpdate(planId);
+        if (sourcePlanId == null) return;
+
+        copy(planMapper, planScheduleMapper, List.of(planId));
+        log.info("포크 플랜 일정 복사 완료 - planId: {}, sourcePlanId: {}", planId, sourcePlanId);
+    }
+
+    // 원본 수정/삭제 전에 아직 복사 전인 포크를 전부 복사
+    private void materializeForksOf(PlanMapper planMapper, PlanScheduleMapper planScheduleMapper, Long sourcePlanId) {
+        // 포크 행을 잠그고 가져옴 (인덱스 갭 잠금으로 커밋 전까지 새 포크 생성도 대기)
+        List<Long> forkPlanIds = planMapper.selectPendingForkIdsForUpdate(sourcePlanId);
+        if (forkPlanIds.isEmpty()) return;
+
+        copy(planMapper, planScheduleMapper, forkPlanIds);
+        log.info("원본 변경 전 포크 일정 복사 완료 - sourcePlanId: {}, forks: {}", sourcePlanId, forkPlanIds.size());
+    }
+
+    private void copy(PlanMapper planMapper, PlanScheduleMapper planScheduleMapper, List<Long> forkPlanIds) {
+        // 1. 원본 ID가 남아 있을 때 복사해야 조인이 원본 일정을 가리킴
+        planScheduleMapper.copyForkSchedules(forkPlanIds);
+
+        // 2. 포크 플랜으로 쓴 여행기의 장소 리뷰도 복사된 일정을 가리키도록 변경
+        planScheduleMapper.remapForkReviews(forkPlanIds);
+
+        // 3. 이제부터는 자기 일정을 읽음
+        planMapper.clearForkSources(forkPlanIds);
+
+        // 4. 내용은 같아도 일정 ID가 바뀌었으므로 포크의 ETag 를 무효화
+        for (Long forkPlanId : forkPlanIds) {
+            planVersionService.bump(planMapper, forkPlanId);
+        }
+    }
+}
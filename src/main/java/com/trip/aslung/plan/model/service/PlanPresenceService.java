@@ -0,0 +1,187 @@
+package com.trip.aslung.plan.model.service;
+
+import com.trip.aslung.plan.model.dto.PresenceMember;
+import com.trip.aslung.plan.model.dto.SocketEventDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 플랜 방 접속자(프레즌스) 관리.
+ * - presence:plan:{planId}  (ZSET) "userId:sessionId" -> 마지막 하트비트 시각
+ * - presence:focus:{planId} (HASH) "userId:sessionId" -> 보고 있는 일정 ID
+ * - presence:live           (SET)  접속자가 있는 플랜 ID
+ * 구독/구독 해제/연결 종료 이벤트로 입장/퇴장을 반영하고, 하트비트가 끊긴 접속은 주기적으로 정리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlanPresenceService {
+
+    private static final String PRESENCE_PREFIX = "presence:plan:";
+    private static final String FOCUS_PREFIX = "presence:focus:";
+    private static final String LIVE_KEY = "presence:live";
+    private static final Pattern PLAN_DESTINATION = Pattern.compile("^/(?:sub|topic)/plans/(\\d+)$");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 이 노드의 세션 -> (subscriptionId -> planId), 연결 종료 시 퇴장 처리용
+    private final Map<String, Map<String, Long>> sessionPlans = new ConcurrentHashMap<>();
+
+    @Value("${aslung.presence.timeout-seconds:60}")
+    private long timeoutSeconds;
+
+    // 1. 플랜 구독 = 입장
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Long planId = planIdOf(accessor.getDestination());
+        Long userId = userIdOf(accessor);
+        if (planId == null || userId == null) return;
+
+        sessionPlans.computeIfAbsent(accessor.getSessionId(), k -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), planId);
+        join(planId, userId, accessor.getSessionId());
+    }
+
+    // 2. 구독 해제 / 연결 종료 = 퇴장
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Map<String, Long> plans = sessionPlans.get(accessor.getSessionId());
+        Long userId = userIdOf(accessor);
+        if (plans == null || userId == null) return;
+
+        Long planId = plans.remove(accessor.getSubscriptionId());
+        if (planId != null) leave(planId, userId, accessor.getSessionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> plans = sessionPlans.remove(event.getSessionId());
+        Long userId = userIdOf(SimpMessageHeaderAccessor.wrap(event.getMessage()));
+        if (plans == null || userId == null) return;
+
+        new HashSet<>(plans.values()).forEach(planId -> leave(planId, userId, event.getSessionId()));
+    }
+
+    // 3. 하트비트 (보고 있는 일정이 바뀌었을 때만 방에 알림)
+    public void heartbeat(Long planId, Long userId, String sessionId, Long scheduleId) {
+        String member = member(userId, sessionId);
+        redisTemplate.opsForZSet().add(PRESENCE_PREFIX + planId, member, System.currentTimeMillis());
+
+        String focusKey = FOCUS_PREFIX + planId;
+        Object previous = redisTemplate.opsForHash().get(focusKey, member);
+        String current = (scheduleId != null) ? String.valueOf(scheduleId) : null;
+        if (Objects.equals(previous, current)) return;
+
+        if (current != null) {
+            redisTemplate.opsForHash().put(focusKey, member, current);
+        } else {
+            redisTemplate.opsForHash().delete(focusKey, member);
+        }
+        broadcast(planId);
+    }
+
+    public List<PresenceMember> getMembers(Long planId) {
+        Set<ZSetOperations.TypedTuple<Object>> entries =
+                redisTemplate.opsForZSet().rangeByScoreWithScores(PRESENCE_PREFIX + planId, expiredBefore(), Double.MAX_VALUE);
+        if (entries == null || entries.isEmpty()) return new ArrayList<>();
+
+        Map<Object, Object> focus = redisTemplate.opsForHash().entries(FOCUS_PREFIX + planId);
+
+        // 같은 사용자가 여러 탭으로 접속했으면 가장 최근 접속 기준
+        Map<Long, PresenceMember> byUser = new LinkedHashMap<>();
+        for (ZSetOperations.TypedTuple<Object> entry : entries) {
+            String member = (String) entry.getValue();
+            Long userId = Long.valueOf(member.substring(0, member.indexOf(':')));
+            Object scheduleId = focus.get(member);
+            long lastSeenAt = entry.getScore().longValue();
+
+            byUser.merge(userId,
+                    new PresenceMember(userId, scheduleId != null ? Long.valueOf((String) scheduleId) : null, lastSeenAt),
+                    (a, b) -> a.getLastSeenAt() >= b.getLastSeenAt() ? a : b);
+        }
+        return new ArrayList<>(byUser.values());
+    }
+
+    // 4. 하트비트가 끊긴 접속 정리 (여러 노드에서 돌아도 결과는 같음)
+    @Scheduled(fixedDelayString = "${aslung.presence.sweep-interval-ms:15000}")
+    public void sweep() {
+        Set<Object> livePlans = redisTemplate.opsForSet().members(LIVE_KEY);
+        if (livePlans == null) return;
+
+        for (Object value : livePlans) {
+            Long planId = Long.valueOf((String) value);
+            String presenceKey = PRESENCE_PREFIX + planId;
+
+            Set<Object> expired = redisTemplate.opsForZSet().rangeByScore(presenceKey, 0, expiredBefore());
+            if (expired != null && !expired.isEmpty()) {
+                redisTemplate.opsForZSet().remove(presenceKey, expired.toArray());
+                redisTemplate.opsForHash().delete(FOCUS_PREFIX + planId, expired.toArray());
+            }
+
+            Long remaining = redisTemplate.opsForZSet().zCard(presenceKey);
+            if (remaining == null || remaining == 0) {
+                redisTemplate.opsForSet().remove(LIVE_KEY, value);
+                redisTemplate.delete(FOCUS_PREFIX + planId);
+            } else if (expired != null && !expired.isEmpty()) {
+                broadcast(planId);
+            }
+        }
+    }
+
+    private void join(Long planId, Long userId, String sessionId) {
+        redisTemplate.opsForZSet().add(PRESENCE_PREFIX + planId, member(userId, sessionId), System.currentTimeMillis());
+        redisTemplate.opsForSet().add(LIVE_KEY, String.valueOf(planId));
+        broadcast(planId);
+    }
+
+    private void leave(Long planId, Long userId, String sessionId) {
+        String member = member(userId, sessionId);
+        redisTemplate.opsForZSet().remove(PRESENCE_PREFIX + planId, member);
+        redisTemplate.opsForHash().delete(FOCUS_PREFIX + planId, member);
+        // live 셋 정리는 sweep 에서 (다른 노드의 입장과 경쟁하지 않도록)
+        broadcast(planId);
+    }
+
+    private void broadcast(Long planId) {
+        messagingTemplate.convertAndSend("/sub/plans/" + planId,
+                new SocketEventDTO("PRESENCE", planId, getMembers(planId)));
+    }
+
+    private double expiredBefore() {
+        return System.currentTimeMillis() - timeoutSeconds * 1000.0;
+    }
+
+    private String member(Long userId, String sessionId) {
+        return userId + ":" + sessionId;
+    }
+
+    private Long planIdOf(String destination) {
+        if (destination == null) return null;
+        Matcher matcher = PLAN_DESTINATION.matcher(destination);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    private Long userIdOf(SimpMessageHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        return (attributes != null) ? (Long) attributes.get("userId") : null;
+    }
+}
@@ -2,6 +2,7 @@ package com.trip.aslung.plan.model.service;
 
 import com.trip.aslung.plan.model.dto.PlanSchedule;
 import com.trip.aslung.plan.model.dto.ScheduleAddRequest;
+import com.trip.aslung.plan.model.dto.ScheduleBatchRequest;
 import com.trip.aslung.plan.model.dto.ScheduleMoveRequest;
 import com.trip.aslung.plan.model.dto.ScheduleUpdateRequest;
 
@@ -13,4 +14,5 @@ public interface PlanScheduleService {
     void deleteSchedule(Long userId, Long planId, Long scheduleId);
     void moveSchedule(Long userId, Long planId, Long scheduleId, ScheduleMoveRequest request);
     List<PlanSchedule> getSchedulesByPlanId(Long planId);
+    List<PlanSchedule> applyBatch(Long userId, Long planId, ScheduleBatchRequest request);
 }
\ No newline at end of file
@@ -2,16 +2,22 @@ package com.trip.aslung.plan.model.service;
 
 import com.trip.aslung.plan.model.dto.*;
 import com.trip.aslung.plan.model.mapper.PlaceMapper;
+import com.trip.aslung.plan.model.mapper.PlanMapper;
 import com.trip.aslung.planMember.model.dto.PlanMember;
-import com.trip.aslung.planMember.model.mapper.PlanMemberMapper;
+import com.trip.aslung.planMember.model.service.PlanMemberCache;
 import com.trip.aslung.plan.model.mapper.PlanScheduleMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -20,13 +26,19 @@ import java.util.List;
 public class PlanScheduleServiceImpl implements PlanScheduleService{
 
     private final PlanScheduleMapper planScheduleMapper;
-    private final PlanMemberMapper planMemberMapper;
+    private final PlanMemberCache planMemberCache;
     private final PlaceMapper placeMapper;
+    private final PlanMapper planMapper;
+    private final SqlSessionFactory sqlSessionFactory;
+    private final PlanVersionService planVersionService;
+    private final PlanForkService planForkService;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional
     public void addSchedule(Long userId, Long planId, ScheduleAddRequest request) {
         validatePermission(planId, userId);
+        planForkService.prepareWrite(planId);
 
         // [STEP 1] 카카오 ID로 1차 검색 (가장 정확)
         Place place = placeMapper.findByKakaoMapId(request.getKakaoPlaceId());
@@ -71,12 +83,20 @@ public class PlanScheduleServiceImpl implements PlanScheduleService{
         request.setPlanId(planId);
         request.setPlaceId(finalPlaceId);
         planScheduleMapper.createSchedule(request);
+        planVersionService.bump(planId);
     }
 
     @Override
     public void updateSchedule(Long userId, Long planId, Long scheduleId, ScheduleUpdateRequest request) {
         validatePermission(planId,userId);
         log.info("[update] planId : {}, userId : {}, scheduleId : {}", userId, planId, scheduleId);
+        planForkService.prepareWrite(planId);
+        scheduleId = planForkService.resolveScheduleId(planScheduleMapper, planId, scheduleId);
+        updateSchedule(planScheduleMapper, planId, scheduleId, request);
+        planVersionService.bump(planId);
+    }
+
+    private void updateSchedule(PlanScheduleMapper planScheduleMapper, Long planId, Long scheduleId, ScheduleUpdateRequest request) {
         log.info("memo: {}, placeId:{}", request.getMemo(), request.getPlaceId());
         PlanSchedule schedule = new PlanSchedule();
         schedule.setScheduleId(scheduleId);
@@ -89,7 +109,13 @@ public class PlanScheduleServiceImpl implements PlanScheduleService{
     @Override
     public void deleteSchedule(Long userId, Long planId, Long scheduleId) {
         validatePermission(planId,userId);
+        planForkService.prepareWrite(planId);
+        scheduleId = planForkService.resolveScheduleId(planScheduleMapper, planId, scheduleId);
+        deleteSchedule(planScheduleMapper, planId, scheduleId);
+        planVersionService.bump(planId);
+    }
 
+    private void deleteSchedule(PlanScheduleMapper planScheduleMapper, Long planId, Long scheduleId) {
         // 예외처리
         PlanSchedule schedule = planScheduleMapper.findById(scheduleId);
         if (schedule == null || !schedule.getPlanId().equals(planId)) {
@@ -110,6 +136,13 @@ public class PlanScheduleServiceImpl implements PlanScheduleService{
     public void moveSchedule(Long userId, Long planId, Long scheduleId, ScheduleMoveRequest request) {
         // 1. 권한 체크 및 데이터 가져오기
         validatePermission(planId, userId);
+        planForkService.prepareWrite(planId);
+        scheduleId = planForkService.resolveScheduleId(planScheduleMapper, planId, scheduleId);
+        moveSchedule(planScheduleMapper, planId, scheduleId, request);
+        planVersionService.bump(planId);
+    }
+
+    private void moveSchedule(PlanScheduleMapper planScheduleMapper, Long planId, Long scheduleId, ScheduleMoveRequest request) {
         PlanSchedule schedule = planScheduleMapper.findById(scheduleId);
 
         if (schedule == null || !schedule.getPlanId().equals(planId)) {
@@ -170,8 +203,170 @@ public class PlanScheduleServiceImpl implements PlanScheduleService{
         return planScheduleMapper.selectSchedulesByPlanId(planId);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PlanSchedule> applyBatch(Long userId, Long planId, ScheduleBatchRequest request) {
+        // 1. 권한부터 확인하고, 쓰기 전에 요청 전체를 검증 (중간에 실패해서 일부만 반영되는 일이 없도록)
+        validatePermission(planId, userId);
+
+        List<ScheduleBatchRequest.Operation> operations = request.getOperations();
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("일괄 처리할 일정 작업이 없습니다.");
+        }
+        for (ScheduleBatchRequest.Operation operation : operations) {
+            validateOperation(operation);
+        }
+
+        // 2. BATCH 세션은 SIMPLE 세션과 한 트랜잭션에 섞일 수 없으므로, 배치 전용 트랜잭션을 따로 열고 그 안의 매퍼는 전부 BATCH 세션에서 꺼낸다
+        return transactionTemplate.execute(status -> {
+            SqlSessionTemplate batchSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+            PlanScheduleMapper batchScheduleMapper = batchSession.getMapper(PlanScheduleMapper.class);
+            PlaceMapper batchPlaceMapper = batchSession.getMapper(PlaceMapper.class);
+            PlanMapper batchPlanMapper = batchSession.getMapper(PlanMapper.class);
+
+            planForkService.prepareWrite(batchPlanMapper, batchScheduleMapper, planId);
+
+            // 연속된 ADD는 모아서 한 번에 저장하고, 다른 작업이 나오면 그 전에 먼저 반영 (요청 순서 보장)
+            List<ScheduleAddRequest> pendingAdds = new ArrayList<>();
+            for (ScheduleBatchRequest.Operation operation : operations) {
+                String type = operation.getType();
+                if ("ADD".equals(type)) {
+                    pendingAdds.add(operation.getAdd());
+                    continue;
+                }
+
+                addSchedules(batchSession, batchScheduleMapper, batchPlaceMapper, planId, pendingAdds);
+
+                Long scheduleId = planForkService.resolveScheduleId(batchScheduleMapper, planId, operation.getScheduleId());
+
+                if ("UPDATE".equals(type)) {
+                    updateSchedule(batchScheduleMapper, planId, scheduleId, operation.getUpdate());
+                } else if ("MOVE".equals(type)) {
+                    moveSchedule(batchScheduleMapper, planId, scheduleId, operation.getMove());
+                } else {
+                    deleteSchedule(batchScheduleMapper, planId, scheduleId);
+                }
+            }
+            addSchedules(batchSession, batchScheduleMapper, batchPlaceMapper, planId, pendingAdds);
+
+            // 배치 전체를 한 번의 변경으로 보고 버전은 한 번만 올림
+            planVersionService.bump(batchPlanMapper, planId);
+
+            // 3. 저장된 결과(새 일정 ID 포함)를 같은 트랜잭션에서 읽어 돌려줌 (조회 전에 쌓인 배치 문장이 먼저 실행됨)
+            return batchScheduleMapper.selectSchedulesByPlanId(planId);
+        });
+    }
+
+    private void validateOperation(ScheduleBatchRequest.Operation operation) {
+        if (operation == null || operation.getType() == null) {
+            throw new IllegalArgumentException("일정 작업 종류가 없습니다.");
+        }
+        switch (operation.getType()) {
+            case "ADD" -> {
+                ScheduleAddRequest add = operation.getAdd();
+                if (add == null) throw new IllegalArgumentException("ADD 작업에 일정 정보가 없습니다.");
+                if (add.getTripDay() < 1) throw new IllegalArgumentException("잘못된 여행 일차입니다: " + add.getTripDay());
+                if (add.getKakaoPlaceId() == null && add.getPlaceName() == null) {
+                    throw new IllegalArgumentException("ADD 작업에 장소 정보가 없습니다.");
+                }
+            }
+            case "UPDATE" -> {
+                if (operation.getScheduleId() == null || operation.getUpdate() == null) {
+                    throw new IllegalArgumentException("UPDATE 작업에 대상 일정이나 수정 내용이 없습니다.");
+                }
+            }
+            case "MOVE" -> {
+                if (operation.getScheduleId() == null || operation.getMove() == null) {
+                    throw new IllegalArgumentException("MOVE 작업에 대상 일정이나 이동 위치가 없습니다.");
+                }
+            }
+            case "DELETE" -> {
+                if (operation.getScheduleId() == null) {
+                    throw new IllegalArgumentException("DELETE 작업에 대상 일정이 없습니다.");
+                }
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 일정 작업입니다: " + operation.getType());
+        }
+    }
+
+    // 모아둔 ADD 요청을 장소 일괄 조회 + 다중 행 INSERT로 저장
+    private void addSchedules(SqlSessionTemplate batchSession, PlanScheduleMapper planScheduleMapper,
+                              PlaceMapper placeMapper, Long planId, List<ScheduleAddRequest> requests) {
+        if (requests.isEmpty()) return;
+
+        // [STEP 1] 카카오 ID로 한 번에 조회
+        Map<String, Long> placeIds = new HashMap<>();
+        List<String> kakaoIds = requests.stream()
+                .map(ScheduleAddRequest::getKakaoPlaceId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (!kakaoIds.isEmpty()) {
+            for (Place place : placeMapper.findByKakaoMapIds(kakaoIds)) {
+                placeIds.put(place.getKakaoMapId(), place.getPlaceId());
+            }
+        }
+
+        // [STEP 2] 못 찾은 장소 -> 이름 & 좌표로 2차 검색, 그래도 없으면 새로 저장할 목록에 모음
+        Map<String, Place> newPlaces = new LinkedHashMap<>();
+        for (ScheduleAddRequest request : requests) {
+            String key = placeKey(request);
+            if (placeIds.containsKey(key) || newPlaces.containsKey(key)) continue;
+
+            Place place = placeMapper.findByNameAndLocation(request.getPlaceName(), request.getLat(), request.getLng());
+            if (place != null) {
+                if (request.getKakaoPlaceId() != null) {
+                    placeMapper.updateKakaoMapId(place.getPlaceId(), request.getKakaoPlaceId());
+                }
+                placeIds.put(key, place.getPlaceId());
+            } else {
+                newPlaces.put(key, Place.builder()
+                        .kakaoMapId(request.getKakaoPlaceId())
+                        .name(request.getPlaceName())
+                        .address(request.getAddress())
+                        .contentTypeId(request.getCategory())
+                        .latitude(request.getLat())
+                        .longitude(request.getLng())
+                        .imageUrl(request.getImageUrl())
+                        .build());
+            }
+        }
+
+        // [STEP 3] 새 장소는 JDBC 배치로 저장 (BATCH 모드에서는 flush 시점에 생성 키가 채워짐)
+        if (!newPlaces.isEmpty()) {
+            newPlaces.values().forEach(placeMapper::savePlace);
+            batchSession.flushStatements();
+            newPlaces.forEach((key, place) -> placeIds.put(key, place.getPlaceId()));
+        }
+
+        // [STEP 4] 날짜별 마지막 순서를 한 번에 구해서 이어 붙이고, 일정은 다중 행 INSERT 한 번으로 저장
+        Map<Integer, Integer> nextOrders = new HashMap<>();
+        for (PlanSchedule max : planScheduleMapper.selectMaxOrderIndexes(planId)) {
+            nextOrders.put(max.getDayNumber(), max.getOrderIndex() + 1);
+        }
+
+        List<PlanSchedule> schedules = new ArrayList<>();
+        for (ScheduleAddRequest request : requests) {
+            PlanSchedule schedule = new PlanSchedule();
+            schedule.setPlanId(planId);
+            schedule.setPlaceId(placeIds.get(placeKey(request)));
+            schedule.setDayNumber(request.getTripDay());
+            schedule.setOrderIndex(nextOrders.merge(request.getTripDay(), 1, Integer::sum) - 1);
+            schedule.setMemo(request.getMemo());
+            schedules.add(schedule);
+        }
+        planScheduleMapper.insertSchedules(schedules);
+
+        requests.clear();
+    }
+
+    private String placeKey(ScheduleAddRequest request) {
+        if (request.getKakaoPlaceId() != null) return request.getKakaoPlaceId();
+        return request.getPlaceName() + "@" + request.getLat() + "," + request.getLng();
+    }
+
     private void validatePermission(Long planId, Long userId) {
-        PlanMember member = planMemberMapper.findByPlanIdAndUserId(planId, userId);
+        PlanMember member = planMemberCache.find(planId, userId);
 
         // 멤버가 아니거나, 권한이 VIEWER(보기 전용)라면 거절
         if (member == null || "VIEWER".equals(member.getRole())) {
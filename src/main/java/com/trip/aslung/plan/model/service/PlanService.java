@@ -4,18 +4,20 @@ import com.trip.aslung.plan.model.dto.PlanCreateRequest;
 import com.trip.aslung.plan.model.dto.PlanDetailResponse;
 import com.trip.aslung.plan.model.dto.PlanListResponse;
 import com.trip.aslung.plan.model.dto.PlanUpdateRequest;
-
-import java.util.List;
+import com.trip.aslung.util.CursorPage;
 
 public interface PlanService {
-    List<PlanListResponse> getMyPlans(Long userId);
+    // 생성일 내림차순 커서 페이지 (cursor 가 없으면 첫 페이지)
+    CursorPage<PlanListResponse> getMyPlans(Long userId, String cursor, int size);
     PlanDetailResponse getPlanDetail(Long userId, Long planId);
+    // 플랜 상세의 현재 ETag (플랜이 없으면 null)
+    String getPlanETag(Long userId, Long planId);
     Long createPlan(Long userId, PlanCreateRequest request);
     void updatePlan(Long userId, Long planId, PlanUpdateRequest request);
     void deletePlan(Long userId, Long planId);
 
     void updateVisibility(Long planId, Long userId, boolean isPublic);
 
-    // [추가] 플랜 복사 메서드 정의
-    long copyPlan(Long sourcePlanId, Long userId);
+    // [추가] 플랜 복사 메서드 정의 (fork = true 면 일정은 첫 수정 때 복사)
+    long copyPlan(Long sourcePlanId, Long userId, boolean fork);
 }
@@ -1,17 +1,24 @@
 package com.trip.aslung.plan.model.service;
 
 import com.trip.aslung.plan.model.dto.*;
+import com.trip.aslung.plan.model.event.PlanListChangedEvent;
 import com.trip.aslung.plan.model.mapper.PlanMapper;
 import com.trip.aslung.plan.model.mapper.PlanScheduleMapper;
 import com.trip.aslung.planMember.model.dto.PlanMember;
+import com.trip.aslung.planMember.model.event.PlanMemberChangedEvent;
 import com.trip.aslung.planMember.model.mapper.PlanMemberMapper;
+import com.trip.aslung.planMember.model.service.PlanMemberCache;
+import com.trip.aslung.util.Cursor;
+import com.trip.aslung.util.CursorPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -19,47 +26,88 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PlanServiceImpl implements PlanService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final PlanMapper planMapper;
     private final PlanMemberMapper planMemberMapper;
     private final PlanScheduleMapper planScheduleMapper;
+    private final PlanMemberCache planMemberCache;
+    private final PlanVersionService planVersionService;
+    private final PlanForkService planForkService;
+    private final MyPlanListCache myPlanListCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
-    public List<PlanListResponse> getMyPlans(Long userId) {
-        return planMapper.selectMyPlans(userId);
+    public CursorPage<PlanListResponse> getMyPlans(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Cursor decoded = Cursor.decode(cursor);
+
+        // 1. 기본 크기의 첫 페이지만 캐시 사용
+        boolean cacheable = decoded == null && pageSize == DEFAULT_PAGE_SIZE;
+        String generation = null;
+        if (cacheable) {
+            CursorPage<PlanListResponse> cached = myPlanListCache.get(userId);
+            if (cached != null) return cached;
+            // 조회 도중 목록이 바뀌면 저장하지 않도록 세대를 먼저 읽어 둠
+            generation = myPlanListCache.generation(userId);
+        }
+
+        // 2. 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<PlanListResponse> rows = planMapper.selectMyPlans(userId, decoded, pageSize + 1);
+        CursorPage<PlanListResponse> page = CursorPage.of(rows, pageSize,
+                plan -> new Cursor(plan.getCreatedAt(), plan.getPlanId()));
+
+        if (cacheable) {
+            myPlanListCache.put(userId, generation, page);
+        }
+        return page;
     }
 
     @Override
     @Transactional(readOnly = true)
     public PlanDetailResponse getPlanDetail(Long userId, Long planId) {
-        // 1. 플랜 가져오기
-        PlanDetailResponse plan = planMapper.selectPlanDetail(planId);
+        // 1. 플랜 + 멤버 + 일정 한 번에 가져오기
+        PlanDetailResponse plan = planMapper.selectPlanDetailWithChildren(planId);
 
         if(plan==null){
             throw new IllegalArgumentException("해당 플랜이 존재하지 않습니다.");
         }
 
-        // 2. 멤버 조회
-        List<PlanMember> members = planMapper.selectPlanMembers(planId);
+        // 2. 조인 결과가 없으면 컬렉션이 비어있으므로 빈 목록으로 맞춤
+        if (plan.getMembers() == null) plan.setMembers(new ArrayList<>());
+        if (plan.getSchedules() == null) plan.setSchedules(new ArrayList<>());
+        List<PlanMember> members = plan.getMembers();
 
         // 3. 권한 체크
         boolean isOwner = plan.getOwnerId().equals(userId);
         boolean isMember = members.stream()
                 .anyMatch(m -> m.getUserId().equals(userId) && "JOINED".equals(m.getStatus()));
 
-//        if(!Boolean.TRUE.equals(plan.getIsPublic()) && !isMember && !isOwner){
-//            throw new IllegalArgumentException("접근 권한이 없습니다");
-//        }
-
-        // 4. 스케줄 조회
-        List<PlanSchedule> schedules = planScheduleMapper.selectSchedulesByPlanId(planId);
-
-        plan.setMembers(members);
-        plan.setSchedules(schedules);
+        if(!Boolean.TRUE.equals(plan.getIsPublic()) && !isMember && !isOwner){
+            throw new AccessDeniedException("접근 권한이 없습니다");
+        }
 
         return plan;
     }
 
+    @Override
+    public String getPlanETag(Long userId, Long planId) {
+        // 304 도 본문과 같은 권한 체크를 거친 뒤에만 줌 (참여 멤버는 캐시로 확인, 아니면 공개 여부만 조회)
+        PlanMember member = planMemberCache.find(planId, userId);
+        if (member == null || !"JOINED".equals(member.getStatus())) {
+            PlanDetailResponse plan = planMapper.selectPlanDetail(planId);
+            if (plan == null) {
+                throw new IllegalArgumentException("해당 플랜이 존재하지 않습니다.");
+            }
+            if (!Boolean.TRUE.equals(plan.getIsPublic()) && !plan.getOwnerId().equals(userId)) {
+                throw new AccessDeniedException("접근 권한이 없습니다");
+            }
+        }
+        return planVersionService.getETag(planId);
+    }
+
     @Override
     @Transactional
     public Long createPlan(Long userId, PlanCreateRequest request) {
@@ -92,6 +140,7 @@ public class PlanServiceImpl implements PlanService {
                 .joinedAt(LocalDateTime.now())
                 .build();
         planMemberMapper.insertPlanMember(newMember);
+        eventPublisher.publishEvent(new PlanMemberChangedEvent(plan.getPlanId(), userId));
 
         return plan.getPlanId();
     }
@@ -99,7 +148,7 @@ public class PlanServiceImpl implements PlanService {
     @Override
     @Transactional
     public void updatePlan(Long userId, Long planId, PlanUpdateRequest request) {
-        PlanMember member = planMemberMapper.findByPlanIdAndUserId(planId, userId);
+        PlanMember member = planMemberCache.find(planId, userId);
 
         // 권한 확인
         if (member == null || !"OWNER".equals(member.getRole())) {
@@ -123,6 +172,8 @@ public class PlanServiceImpl implements PlanService {
         plan.setUpdatedAt(LocalDateTime.now());
 
         planMapper.updatePlan(plan);
+        planVersionService.bump(planId);
+        eventPublisher.publishEvent(new PlanListChangedEvent(planMemberMapper.findJoinedUserIdsByPlanId(planId)));
     }
 
     @Override
@@ -137,41 +188,44 @@ public class PlanServiceImpl implements PlanService {
         }
 
         // 소프트 삭제 => 여행기 삭제 로직 필요
+        // 이 플랜을 원본으로 둔 포크는 삭제 전에 일정을 복사해서 그대로 남김
+        planForkService.prepareDelete(planId);
         planMapper.deletePlan(planId, userId);
+        planVersionService.bump(planId);
+
+        // 삭제된 플랜은 멤버 캐시에서도 멤버가 아니게 되도록 초대 중인 사람까지 전부 제거
+        for (Long memberUserId : planMemberMapper.findUserIdsByPlanId(planId)) {
+            eventPublisher.publishEvent(new PlanMemberChangedEvent(planId, memberUserId));
+        }
+        eventPublisher.publishEvent(new PlanListChangedEvent(planMemberMapper.findJoinedUserIdsByPlanId(planId)));
     }
 
     @Override
+    @Transactional
     public void updateVisibility(Long planId, Long userId, boolean isPublic) {
         PlanDetailResponse plan = planMapper.selectPlanDetail(planId);
         if(plan == null) throw new IllegalArgumentException("여행 계획이 없습니다.");
 
         if(!plan.getOwnerId().equals(userId)) throw new SecurityException("공개 설정 변경은 방장만 가능합니다.");
         planMapper.updatePlanVisibility(planId, isPublic);
+        planVersionService.bump(planId);
+        eventPublisher.publishEvent(new PlanListChangedEvent(planMemberMapper.findJoinedUserIdsByPlanId(planId)));
     }
 
     @Override
     @Transactional
-    public long copyPlan(Long sourcePlanId, Long userId) {
-        // 1. 원본 계획 정보 조회 (selectPlanDetail 사용)
-        PlanDetailResponse sourcePlanRes = planMapper.selectPlanDetail(sourcePlanId);
-
-        if (sourcePlanRes == null) {
-            throw new RuntimeException("원본 여행 일정을 찾을 수 없습니다.");
-        }
-
-        // 2. 새로운 Plan 객체 생성 및 데이터 복사
+    public long copyPlan(Long sourcePlanId, Long userId, boolean fork) {
+        // 1. 원본 계획 정보를 DB 안에서 바로 복사 (INSERT ... SELECT)
         Plan newPlan = new Plan();
         newPlan.setUserId(userId); // 내 아이디
-        newPlan.setTitle(sourcePlanRes.getTitle() + " (가져옴)"); // 제목
-        newPlan.setRegionName(sourcePlanRes.getRegionName());
-        newPlan.setStartDate(sourcePlanRes.getStartDate());
-        newPlan.setEndDate(sourcePlanRes.getEndDate());
-        newPlan.setIsPublic(false); // 비공개 설정
-
-        // 3. 새 계획 DB 저장 (insertPlan 사용)
-        planMapper.insertPlan(newPlan);
+        planMapper.insertPlanCopy(newPlan, sourcePlanId, fork);
+
         Long newPlanId = newPlan.getPlanId();
+        if (newPlanId == null) {
+            throw new RuntimeException("원본 여행 일정을 찾을 수 없습니다.");
+        }
 
+        // 2. 방장으로 멤버 추가
         PlanMember member = new PlanMember();
         member.setPlanId(newPlanId);
         member.setUserId(userId);
@@ -180,19 +234,13 @@ public class PlanServiceImpl implements PlanService {
         member.setJoinedAt(LocalDateTime.now());
 
         planMemberMapper.insertPlanMember(member);
+        eventPublisher.publishEvent(new PlanMemberChangedEvent(newPlanId, userId));
 
-        // 4. 원본 스케줄 조회 (selectSchedulesByPlanId 사용)
-        List<PlanSchedule> sourceSchedules = planScheduleMapper.selectSchedulesByPlanId(sourcePlanId);
-
-        // 5. 스케줄 복사 저장
-        if (sourceSchedules != null) {
-            for (PlanSchedule schedule : sourceSchedules) {
-                schedule.setPlanId(newPlanId); // 새 ID로 교체
-                schedule.setScheduleId(null);  // 새 생성을 위해 null 처리
-
-                // [중요] 새로 추가한 insertSchedule 호출
-                planScheduleMapper.insertSchedule(schedule);
-            }
+        // 3. 스케줄 복사
+        // - 일반 복사: INSERT ... SELECT 한 번으로 전체 복사
+        // - 포크: 원본 ID만 기록해두고, 포크나 원본의 일정이 처음 바뀌기 직전에 복사 (PlanForkService)
+        if (!fork) {
+            planScheduleMapper.copySchedules(sourcePlanId, newPlanId);
         }
 
         return newPlanId;
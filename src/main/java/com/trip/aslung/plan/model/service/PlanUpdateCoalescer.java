@@ -0,0 +1,101 @@
+package com.trip.aslung.plan.model.service;
+
+import com.trip.aslung.plan.model.dto.SocketEventDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랜별 실시간 변경 신호 묶음 전송.
+ * 첫 신호가 들어오고 일정 시간(기본 50ms) 동안 모인 신호를 (일정, 신호 종류)별로 합쳐서 한 번에 보낸다.
+ * payload 는 부분 변경분이므로 종류가 다른 신호(MOVE 뒤의 메모 UPDATE 등)는 각각 남기고,
+ * 같은 종류는 필드 단위로 덮어써서 합친다. 건수와 상관없이 항상 BATCH 이벤트 하나로 보낸다.
+ */
+@Slf4j
+@Component
+public class PlanUpdateCoalescer {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long windowMillis;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "plan-update-coalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // planId -> ((일정, 신호 종류) -> 합친 payload), 맵 조작은 compute 안에서만
+    private final Map<Long, Map<String, Map<String, Object>>> pending = new ConcurrentHashMap<>();
+
+    private final Counter receivedCounter;
+    private final Counter sentCounter;
+
+    public PlanUpdateCoalescer(SimpMessagingTemplate messagingTemplate,
+                               @Value("${aslung.websocket.coalesce-window-ms:50}") long windowMillis,
+                               MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.windowMillis = windowMillis;
+        this.receivedCounter = Counter.builder("aslung.stomp.coalesce.received").register(meterRegistry);
+        this.sentCounter = Counter.builder("aslung.stomp.coalesce.sent").register(meterRegistry);
+    }
+
+    public void submit(Long planId, Map<String, Object> payload) {
+        receivedCounter.increment();
+        String key = coalesceKey(payload);
+
+        pending.compute(planId, (id, events) -> {
+            // 1. 이번 구간의 첫 신호면 전송 예약
+            if (events == null) {
+                events = new LinkedHashMap<>();
+                scheduler.schedule(() -> flush(id), windowMillis, TimeUnit.MILLISECONDS);
+            }
+            // 2. 같은 대상/종류는 앞선 변경분에 덮어써서 합침 (순서는 마지막 기준)
+            Map<String, Object> merged = new LinkedHashMap<>();
+            Map<String, Object> previous = events.remove(key);
+            if (previous != null) merged.putAll(previous);
+            merged.putAll(payload);
+            events.put(key, merged);
+            return events;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private void flush(Long planId) {
+        Map<String, Map<String, Object>> events = pending.remove(planId);
+        if (events == null || events.isEmpty()) return;
+
+        String destination = "/topic/plans/" + planId;
+        try {
+            // 한 건이어도 같은 형식으로 보내서 클라이언트는 BATCH 하나만 처리하면 됨
+            messagingTemplate.convertAndSend(destination,
+                    new SocketEventDTO("BATCH", planId, new ArrayList<>(events.values())));
+            sentCounter.increment();
+        } catch (RuntimeException e) {
+            log.error("플랜 변경 신호 전송 실패 - planId: {}", planId, e);
+        }
+    }
+
+    // 일정 신호는 (일정 ID, 신호 종류)별로, 그 외에는 신호 종류별로 합침
+    private String coalesceKey(Map<String, Object> payload) {
+        Object type = payload.get("type");
+        Object scheduleId = payload.get("scheduleId");
+        if (scheduleId != null) return "schedule:" + scheduleId + ":" + type;
+        return "type:" + type;
+    }
+}
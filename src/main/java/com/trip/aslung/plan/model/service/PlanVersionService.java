@@ -0,0 +1,85 @@
+package com.trip.aslung.plan.model.service;
+
+import com.trip.aslung.plan.model.event.PlanChangedEvent;
+import com.trip.aslung.plan.model.mapper.PlanMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 플랜 버전 관리 (플랜 상세 ETag 용).
+ * DB 버전은 변경 트랜잭션 안에서 올리고, 커밋 후 Redis 에 반영해서
+ * 변경이 없으면 MySQL 조회 없이 304 를 줄 수 있게 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PlanVersionService {
+
+    private static final String KEY_PREFIX = "PV:";
+
+    // 더 큰 버전일 때만 덮어씀 (늦게 도착한 옛 버전이 새 버전을 덮지 않도록)
+    private static final RedisScript<Long> SET_IF_GREATER = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if (not current) or tonumber(current) < tonumber(ARGV[1]) then " +
+            "  redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final PlanMapper planMapper;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${aslung.plan-version.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    // 플랜/멤버/일정 변경 시 호출한 트랜잭션 안에서 버전 증가
+    public void bump(Long planId) {
+        bump(planMapper, planId);
+    }
+
+    // BATCH 세션 매퍼를 써야 하는 트랜잭션용
+    public void bump(PlanMapper planMapper, Long planId) {
+        planMapper.increaseVersion(planId);
+        Long version = planMapper.selectPlanVersion(planId);
+        if (version != null) {
+            eventPublisher.publishEvent(new PlanChangedEvent(planId, version));
+        }
+    }
+
+    // 현재 버전의 ETag (Redis 에 없을 때만 DB 조회), 플랜이 없으면 null
+    public String getETag(Long planId) {
+        String cached = (String) redisTemplate.opsForValue().get(KEY_PREFIX + planId);
+        if (cached != null) {
+            return toETag(Long.parseLong(cached));
+        }
+
+        Long version = planMapper.selectPlanVersion(planId);
+        if (version == null) return null;
+
+        cache(planId, version);
+        return toETag(version);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlanChanged(PlanChangedEvent event) {
+        cache(event.getPlanId(), event.getVersion());
+    }
+
+    public static String toETag(long version) {
+        return "\"v" + version + "\"";
+    }
+
+    private void cache(Long planId, long version) {
+        redisTemplate.execute(SET_IF_GREATER, List.of(KEY_PREFIX + planId),
+                String.valueOf(version), String.valueOf(ttlSeconds));
+    }
+}
@@ -0,0 +1,12 @@
+package com.trip.aslung.planMember.model.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 플랜 멤버 추가/초대/수락/강퇴/나가기 등 (planId, userId) 멤버 정보가 바뀌었을 때 발행
+@Getter
+@AllArgsConstructor
+public class PlanMemberChangedEvent {
+    private final Long planId;
+    private final Long userId;
+}
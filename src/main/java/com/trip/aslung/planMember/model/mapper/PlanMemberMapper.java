@@ -16,6 +16,9 @@ public interface PlanMemberMapper {
     void deleteMember(Long planId, Long userId);
     void updateMemberStatus(Long planId, Long userId, String status);
     PlanMember findByPlanIdAndUserId(Long planId, Long userId);
+    PlanMember findActiveMember(Long planId, Long userId);
+    List<Long> findUserIdsByPlanId(Long planId);
+    List<Long> findJoinedUserIdsByPlanId(Long planId);
     boolean existsByPlanIdAndUserId(Long planId, Long userId);
     PlanMember findById(Long memberId);
     List<InvitationResponse> findInvitationsByUserId(Long userId);
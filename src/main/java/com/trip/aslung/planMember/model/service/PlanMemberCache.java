@@ -0,0 +1,175 @@
+package com.trip.aslung.planMember.model.service;
+
+import com.trip.aslung.planMember.model.dto.PlanMember;
+import com.trip.aslung.planMember.model.event.PlanMemberChangedEvent;
+import com.trip.aslung.planMember.model.mapper.PlanMemberMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (planId, userId) -> 역할/상태 캐시.
+ * 로컬 메모리 -> Redis -> DB 순으로 조회하고, 멤버 변경 이벤트가 커밋되면
+ * Redis 키를 지우고 pub/sub 으로 모든 노드의 로컬 캐시를 비운다.
+ * 변경 전에 DB 를 읽은 조회가 지운 뒤에 옛 값을 다시 써넣지 않도록, 키마다 세대 번호를 두고
+ * 조회 시작 때와 세대가 같을 때만 Redis 에 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlanMemberCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "PM:";
+    private static final String GENERATION_PREFIX = "PMG:";
+    private static final String EVICT_CHANNEL = "plan-member:evict";
+    private static final String NOT_MEMBER = "NONE";
+
+    // 세대가 조회 시작 때와 같을 때만 저장 (그 사이에 evict 가 있었으면 옛 값이므로 버림)
+    private static final RedisScript<Long> SET_IF_GENERATION = new DefaultRedisScript<>(
+            "local generation = redis.call('GET', KEYS[2]) or '0' " +
+            "if generation ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    // 세대를 올리고 값을 지움 (세대 키는 진행 중인 조회보다 오래 살아 있으면 충분)
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return 1",
+            Long.class);
+
+    private final PlanMemberMapper planMemberMapper;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Map<String, CachedMember> localCache = new ConcurrentHashMap<>();
+
+    // 로컬 캐시 제거가 일어날 때마다 증가 (제거 전에 읽은 값을 제거 후에 로컬에 넣지 않도록)
+    private final AtomicLong localEvictions = new AtomicLong();
+
+    @Value("${aslung.plan-member-cache.local-ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    @Value("${aslung.plan-member-cache.redis-ttl-minutes:10}")
+    private long redisTtlMinutes;
+
+    @Value("${aslung.plan-member-cache.local-max-size:10000}")
+    private int localMaxSize;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    // 멤버가 아니면 null
+    // DB 조회는 호출한 쪽 트랜잭션(커넥션)에서 실행됨, BATCH 세션 트랜잭션에서는 그 트랜잭션을 열기 전에 호출할 것
+    public PlanMember find(Long planId, Long userId) {
+        String key = key(planId, userId);
+        long now = System.currentTimeMillis();
+
+        // 1. 로컬 캐시
+        CachedMember cached = localCache.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.toPlanMember(planId, userId);
+        }
+
+        long evictions = localEvictions.get();
+
+        // 2. Redis
+        String value = (String) redisTemplate.opsForValue().get(key);
+        boolean fresh = true;
+
+        // 3. DB (멤버가 아닌 경우도 캐싱, 삭제된 플랜은 멤버가 아닌 것으로 봄)
+        if (value == null) {
+            String generationKey = generationKey(planId, userId);
+            Object generation = redisTemplate.opsForValue().get(generationKey);
+
+            PlanMember member = planMemberMapper.findActiveMember(planId, userId);
+            value = (member == null) ? NOT_MEMBER : member.getRole() + ":" + member.getStatus();
+
+            Long stored = redisTemplate.execute(SET_IF_GENERATION, List.of(key, generationKey),
+                    generation == null ? "0" : generation.toString(), value,
+                    String.valueOf(TimeUnit.MINUTES.toSeconds(redisTtlMinutes)));
+            fresh = stored != null && stored == 1L;
+        }
+
+        CachedMember loaded = new CachedMember(value, now + TimeUnit.SECONDS.toMillis(localTtlSeconds));
+
+        // 조회 도중 멤버가 바뀌었으면 이번 결과만 쓰고 로컬에는 남기지 않음
+        if (fresh && localEvictions.get() == evictions) {
+            if (localCache.size() >= localMaxSize) {
+                localCache.clear();
+            }
+            localCache.put(key, loaded);
+        }
+
+        return loaded.toPlanMember(planId, userId);
+    }
+
+    public void evict(Long planId, Long userId) {
+        String key = key(planId, userId);
+        evictLocal(key);
+        redisTemplate.execute(EVICT, List.of(key, generationKey(planId, userId)),
+                String.valueOf(TimeUnit.MINUTES.toSeconds(redisTtlMinutes) * 2));
+        redisTemplate.convertAndSend(EVICT_CHANNEL, key);
+    }
+
+    // 멤버 변경이 커밋된 후에 캐시 제거 (트랜잭션 밖에서 발행된 이벤트도 처리)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlanMemberChanged(PlanMemberChangedEvent event) {
+        evict(event.getPlanId(), event.getUserId());
+    }
+
+    // 다른 노드에서 보낸 로컬 캐시 제거 요청
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void evictLocal(String key) {
+        localEvictions.incrementAndGet();
+        localCache.remove(key);
+    }
+
+    private String key(Long planId, Long userId) {
+        return KEY_PREFIX + planId + ":" + userId;
+    }
+
+    private String generationKey(Long planId, Long userId) {
+        return GENERATION_PREFIX + planId + ":" + userId;
+    }
+
+    private record CachedMember(String value, long expiresAt) {
+
+        PlanMember toPlanMember(Long planId, Long userId) {
+            if (NOT_MEMBER.equals(value)) return null;
+
+            String[] roleAndStatus = value.split(":");
+            return PlanMember.builder()
+                    .planId(planId)
+                    .userId(userId)
+                    .role(roleAndStatus[0])
+                    .status(roleAndStatus[1])
+                    .build();
+        }
+    }
+}
@@ -2,14 +2,17 @@ package com.trip.aslung.planMember.model.service;
 
 import com.trip.aslung.plan.model.dto.PlanDetailResponse;
 import com.trip.aslung.plan.model.mapper.PlanMapper;
+import com.trip.aslung.plan.model.service.PlanVersionService;
 import com.trip.aslung.planMember.model.dto.InvitationResponse;
 import com.trip.aslung.planMember.model.dto.PlanMember;
 import com.trip.aslung.planMember.model.dto.PlanMemberResponse;
+import com.trip.aslung.planMember.model.event.PlanMemberChangedEvent;
 import com.trip.aslung.planMember.model.mapper.PlanMemberMapper;
 import com.trip.aslung.notification.model.NotificationType;
 import com.trip.aslung.notification.model.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,12 +26,15 @@ public class PlanMemberServiceImpl implements PlanMemberService {
 
     private final PlanMemberMapper planMemberMapper;
     private final PlanMapper planMapper;
+    private final PlanMemberCache planMemberCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlanVersionService planVersionService;
 
     private final NotificationService notificationService;
 
     @Override
     public List<PlanMemberResponse> getMember(Long userId, Long planId) {
-        PlanMember member = planMemberMapper.findByPlanIdAndUserId(userId, planId);
+        PlanMember member = planMemberCache.find(planId, userId);
         //if(member == null) throw new IllegalArgumentException("접근 권한 없습니다.");
         return planMemberMapper.findMembersByPlanId(planId);
     }
@@ -40,8 +46,8 @@ public class PlanMemberServiceImpl implements PlanMemberService {
 
         if(!plan.getIsPublic()) throw new IllegalStateException("비공개 여행 계획은 멤버를 초대할 수 없습니다.");
 
-        PlanMember requester = planMemberMapper.findByPlanIdAndUserId(planId,ownerId);
-        if (!requester.getRole().equals("OWNER")) throw new SecurityException("일행 초대는 방장만 가능합니다.");
+        PlanMember requester = planMemberCache.find(planId, ownerId);
+        if (requester == null || !requester.getRole().equals("OWNER")) throw new SecurityException("일행 초대는 방장만 가능합니다.");
         if(ownerId.equals(targetUserId)) throw new IllegalArgumentException("본인은 초대 불가능");
 
         if(planMemberMapper.existsByPlanIdAndUserId(planId, targetUserId)){
@@ -56,6 +62,8 @@ public class PlanMemberServiceImpl implements PlanMemberService {
                 .build();
 
         planMemberMapper.insertPlanMember(newMember);
+        eventPublisher.publishEvent(new PlanMemberChangedEvent(planId, targetUserId));
+        planVersionService.bump(planId);
         log.info("초대 성공: planId={}, inviter={}, target={}", planId, ownerId, targetUserId);
 
         // 알림 보내기 로직 추가
@@ -68,7 +76,8 @@ public class PlanMemberServiceImpl implements PlanMemberService {
 
     @Override
     public void acceptInvitation(Long planId, Long userId) {
-        PlanMember me = planMemberMapper.findByPlanIdAndUserId(planId,userId);
+        // 상태 전이 판단은 캐시가 아니라 트랜잭션 안에서 DB 로 확인
+        PlanMember me = planMemberMapper.findByPlanIdAndUserId(planId, userId);
         if(me == null) throw new IllegalArgumentException("초대 정보를 찾을 수 없습니다.");
 
         if(!me.getStatus().equals("INVITED")){
@@ -76,6 +85,8 @@ public class PlanMemberServiceImpl implements PlanMemberService {
         }
 
         planMemberMapper.updateMemberStatus(planId, userId, "JOINED");
+        eventPublisher.publishEvent(new PlanMemberChangedEvent(planId, userId));
+        planVersionService.bump(planId);
 
         // ★ [4] (선택사항) 수락 시 방장에게 알림 보내기
         PlanDetailResponse plan = planMapper.selectPlanDetail(planId);
@@ -94,7 +105,7 @@ public class PlanMemberServiceImpl implements PlanMemberService {
 
     @Override
     public void kickMember(Long planId, Long ownerId, Long targetMemberId) {
-        PlanMember me = planMemberMapper.findByPlanIdAndUserId(planId, ownerId);
+        PlanMember me = planMemberCache.find(planId, ownerId);
         if(me == null) throw new IllegalArgumentException("정보를 찾을 수 없습니다.");
         // OWNER만 가능
         if(!me.getRole().equals("OWNER")) throw new SecurityException("멤버 강퇴는 방장만 가능합니다."); // 403 Forbidden
@@ -108,14 +119,18 @@ public class PlanMemberServiceImpl implements PlanMemberService {
         if(target.getRole().equals("OWNER")) throw new IllegalArgumentException("방장은 내보낼 수 없습니다.");
 
         planMemberMapper.deleteMember(planId, target.getUserId());
+        eventPublisher.publishEvent(new PlanMemberChangedEvent(planId, target.getUserId()));
+        planVersionService.bump(planId);
     }
     @Override
     public void leavePlan(Long planId, Long userId) {
-        PlanMember me = planMemberMapper.findByPlanIdAndUserId(planId,userId);
+        PlanMember me = planMemberCache.find(planId, userId);
         if(me == null) throw new IllegalArgumentException("초대 정보를 찾을 수 없습니다.");
 
         if(me.getRole().equals("OWNER")) throw new IllegalArgumentException("방장은 여행 계획을 나갈 수 없습니다.");
 
         planMemberMapper.deleteMember(planId, userId);
+        eventPublisher.publishEvent(new PlanMemberChangedEvent(planId, userId));
+        planVersionService.bump(planId);
     }
 }
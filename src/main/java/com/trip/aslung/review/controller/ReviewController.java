@@ -2,7 +2,9 @@ package com.trip.aslung.review.controller;
 
 import com.trip.aslung.review.model.dto.*;
 import com.trip.aslung.review.model.service.ReviewService;
+import com.trip.aslung.util.CursorPage;
 import com.trip.aslung.util.S3Uploader;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -58,10 +60,14 @@ public class ReviewController {
         return ResponseEntity.ok().build();
     }
 
-    // 여행기 목록 (검색 포함)
+    // 여행기 목록 (검색 포함, 커서 기반)
     @GetMapping("/posts")
-    public ResponseEntity<?> getPostList(@RequestParam(required = false) String keyword) {
-        return ResponseEntity.ok(reviewService.getPostList(keyword));
+    public ResponseEntity<?> getPostList(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(reviewService.getPostList(keyword, cursor, size));
     }
 
     // HOT 여행기
@@ -74,9 +80,10 @@ public class ReviewController {
     @GetMapping("/posts/{postId}")
     public ResponseEntity<?> getPostDetail(
             @PathVariable Long postId,
-            @RequestParam(required = false) Long userId
+            @RequestParam(required = false) Long userId,
+            HttpServletRequest request
     ) {
-        PostDetailDto post = reviewService.getPostDetail(postId, userId);
+        PostDetailDto post = reviewService.getPostDetail(postId, userId, clientIp(request));
         return ResponseEntity.ok(post);
     }
 
@@ -90,8 +97,12 @@ public class ReviewController {
 
     // 댓글 목록 조회 API
     @GetMapping("/posts/{postId}/comments")
-    public ResponseEntity<?> getPostComments(@PathVariable Long postId) {
-        return ResponseEntity.ok(reviewService.getPostComments(postId));
+    public ResponseEntity<?> getPostComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(reviewService.getPostComments(postId, cursor, size));
     }
 
     // 댓글 등록 API
@@ -135,10 +146,12 @@ public class ReviewController {
 
     // 내가 쓴 여행기 목록 조회
     @GetMapping("/my")
-    public ResponseEntity<List<PostListDto>> getMyPostList(
-            @AuthenticationPrincipal Long userId
+    public ResponseEntity<CursorPage<PostListDto>> getMyPostList(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
     ) {
-        List<PostListDto> myPosts = reviewService.getMyPostList(userId);
+        CursorPage<PostListDto> myPosts = reviewService.getMyPostList(userId, cursor, size);
         return ResponseEntity.ok(myPosts);
     }
 
@@ -156,10 +169,18 @@ public class ReviewController {
     }
 
     @GetMapping("/likes/me")
-    public ResponseEntity<List<PostListDto>> getMyLikedPostList(
-            @AuthenticationPrincipal Long userId
+    public ResponseEntity<CursorPage<PostListDto>> getMyLikedPostList(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
     ) {
-        List<PostListDto> likedPosts = reviewService.getLikedPostList(userId);
+        CursorPage<PostListDto> likedPosts = reviewService.getLikedPostList(userId, cursor, size);
         return ResponseEntity.ok(likedPosts);
     }
+
+    // 조회수 중복 제거용 클라이언트 주소
+    // X-Forwarded-For 는 신뢰하는 프록시를 거친 경우에만 반영됨 (ForwardedHeaderConfig), 클라이언트가 직접 보낸 값은 무시
+    private String clientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
 }
@@ -1,7 +1,10 @@
 package com.trip.aslung.review.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 
+import java.time.LocalDateTime;
+
 @Data
 public class PostCommentDto {
     private Long commentId;
@@ -10,6 +13,9 @@ public class PostCommentDto {
     private String content;
     private String createdAt;
 
+    @JsonIgnore
+    private LocalDateTime cursorAt; // 커서용 작성 시각 (응답에는 포함 안 함)
+
     // 작성자 정보 (Join으로 가져옴)
     private String nickname;
     private String profileImg;
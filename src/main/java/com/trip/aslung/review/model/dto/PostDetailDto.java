@@ -10,6 +10,7 @@ public class PostDetailDto {
     private String content;
     private String thumbnailUrl;
     private int viewCount;
+    private long uniqueViewCount; // 순 방문자 수 (추정치)
     private int likeCount;
     private boolean liked;
     private String writerNickname;
@@ -27,4 +28,27 @@ public class PostDetailDto {
     private List<PostCommentDto> comments;
 
     private int commentCount;
+
+    // 캐시된 상세를 요청마다 덮어쓰기 위한 복사본 (목록은 읽기만 하므로 그대로 공유)
+    public PostDetailDto copy() {
+        PostDetailDto copy = new PostDetailDto();
+        copy.postId = postId;
+        copy.title = title;
+        copy.content = content;
+        copy.thumbnailUrl = thumbnailUrl;
+        copy.viewCount = viewCount;
+        copy.uniqueViewCount = uniqueViewCount;
+        copy.likeCount = likeCount;
+        copy.liked = liked;
+        copy.writerNickname = writerNickname;
+        copy.writerProfileImg = writerProfileImg;
+        copy.planId = planId;
+        copy.startDate = startDate;
+        copy.endDate = endDate;
+        copy.avgRating = avgRating;
+        copy.schedules = schedules;
+        copy.comments = comments;
+        copy.commentCount = commentCount;
+        return copy;
+    }
 }
\ No newline at end of file
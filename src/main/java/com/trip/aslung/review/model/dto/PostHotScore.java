@@ -0,0 +1,10 @@
+package com.trip.aslung.review.model.dto;
+
+import lombok.Data;
+
+// HOT 랭킹 재계산용 (게시글별 시간 감쇠 점수)
+@Data
+public class PostHotScore {
+    private Long postId;
+    private double score;
+}
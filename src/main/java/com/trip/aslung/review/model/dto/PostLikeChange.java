@@ -0,0 +1,13 @@
+package com.trip.aslung.review.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Redis 에서 바뀐 좋아요 상태 (DB 일괄 반영용)
+@Data
+@AllArgsConstructor
+public class PostLikeChange {
+    private Long postId;
+    private Long userId;
+    private boolean liked;
+}
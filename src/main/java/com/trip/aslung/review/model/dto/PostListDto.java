@@ -2,6 +2,8 @@ package com.trip.aslung.review.model.dto;
 
 import lombok.Data;
 
+import java.time.LocalDateTime;
+
 @Data
 public class PostListDto {
     private Long postId;
@@ -11,6 +13,9 @@ public class PostListDto {
     private String regionName;     // 지역 (예: 제주도)
     private int viewCount;
     private int likeCount;
-    private double avgRating;      // 평균 별점 (reviews 테이블에서 계산)
+    private double avgRating;      // 평균 별점 (posts 요약 컬럼으로 계산)
+    private int reviewCount;       // 리뷰 수
     private int commentCount;      // 댓글 수
+    private LocalDateTime createdAt; // 작성 시각 (목록 정렬/커서 기준)
+    private LocalDateTime likedAt;   // 좋아요 누른 시각 (좋아요 목록 정렬/커서 기준)
 }
\ No newline at end of file
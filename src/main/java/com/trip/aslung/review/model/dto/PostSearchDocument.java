@@ -0,0 +1,13 @@
+package com.trip.aslung.review.model.dto;
+
+import lombok.Data;
+
+// 검색 색인 대상 (제목, 본문, 지역, 코스 장소명)
+@Data
+public class PostSearchDocument {
+    private Long postId;
+    private String title;
+    private String content;
+    private String regionName;
+    private String placeNames; // 공백으로 이어 붙인 장소명
+}
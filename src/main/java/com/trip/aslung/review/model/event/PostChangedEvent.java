@@ -0,0 +1,11 @@
+package com.trip.aslung.review.model.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 여행기(리뷰 포함) 등록/수정/삭제 시 발행 (커밋 후 검색 색인 / 상세 캐시 갱신)
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+    private final Long postId;
+}
@@ -0,0 +1,11 @@
+package com.trip.aslung.review.model.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 여행기 댓글 등록/수정/삭제 시 발행 (커밋 후 상세 캐시 제거)
+@Getter
+@AllArgsConstructor
+public class PostCommentChangedEvent {
+    private final Long postId;
+}
@@ -1,9 +1,13 @@
 package com.trip.aslung.review.model.mapper;
 
 import com.trip.aslung.review.model.dto.*;
+import com.trip.aslung.util.Cursor;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param; // [필수 import]
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface ReviewMapper {
@@ -11,6 +15,12 @@ public interface ReviewMapper {
     // 1. 리뷰 등록
     int insertReview(ReviewRegistDto reviewDto);
 
+    // 게시글 리뷰 요약 컬럼 증가 (리뷰 등록 시)
+    int addReviewStats(@Param("postId") Long postId, @Param("count") int count, @Param("ratingTotal") int ratingTotal);
+
+    // 게시글 리뷰 요약 컬럼 재계산 (리뷰 수정 시)
+    int refreshReviewStats(Long postId);
+
     // 2. 특정 플랜의 리뷰 대상(장소) 목록 조회
     List<ReviewTargetDto> selectReviewTargets(Long planId);
 
@@ -19,16 +29,39 @@ public interface ReviewMapper {
 
     // [⚡️수정] 4. 여행기 목록 조회 (검색)
     // XML의 <if test="keyword..."> 에서 'keyword'를 찾기 위해 @Param 필수!
-    List<PostListDto> selectPostList(@Param("keyword") String keyword);
+    List<PostListDto> selectPostList(@Param("keyword") String keyword,
+                                     @Param("cursor") Cursor cursor,
+                                     @Param("limit") int limit);
+
+    // 5. 여행기 카드 조회 (HOT 랭킹 / 검색 결과)
+    List<PostListDto> selectPostCardsByIds(@Param("postIds") List<Long> postIds);
+
+    // 검색 색인용 문서 (afterId 다음부터 limit 개)
+    List<PostSearchDocument> selectSearchDocuments(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    // 검색 색인용 문서 (삭제된 글이면 null)
+    PostSearchDocument selectSearchDocument(Long postId);
 
-    // 5. HOT 여행기 목록 조회
-    List<PostListDto> selectHotPostList();
+    // HOT 랭킹 재계산용 점수 (since 이후 활동 기준)
+    List<PostHotScore> selectHotScores(@Param("epoch") LocalDateTime epoch,
+                                       @Param("since") LocalDateTime since,
+                                       @Param("halfLifeSeconds") long halfLifeSeconds,
+                                       @Param("likeWeight") double likeWeight,
+                                       @Param("viewWeight") double viewWeight,
+                                       @Param("commentWeight") double commentWeight,
+                                       @Param("limit") int limit);
 
-    // [추가] 조회수 1 증가
-    int updateViewCount(Long postId);
+    // 모아 둔 조회수 반영 (postId -> 증가량)
+    int increaseViewCounts(@Param("deltas") Map<Long, Long> deltas);
 
     // 6. 여행기 상세 기본 정보 조회
-    PostDetailDto selectPostDetail(@Param("postId") Long postId, @Param("userId") Long userId);
+    PostDetailDto selectPostDetail(Long postId);
+
+    // 좋아요 여부
+    boolean existsPostLike(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 댓글이 달린 게시글 ID
+    Long selectCommentPostId(Long commentId);
 
     // 7. 여행기 상세 스케줄(코스) 조회
     List<PostScheduleDto> selectPostSchedules(@Param("planId") Long planId, @Param("postId") Long postId);
@@ -37,11 +70,19 @@ public interface ReviewMapper {
     List<ReviewResponseDto> selectReviewsByPostId(Long postId);
 
     // [추가] 댓글 목록 조회
-    List<PostCommentDto> selectPostComments(Long postId);
+    List<PostCommentDto> selectPostComments(@Param("postId") Long postId,
+                                            @Param("cursor") Cursor cursor,
+                                            @Param("limit") int limit);
 
     // [추가] 댓글 작성
     int insertPostComment(PostCommentDto commentDto);
 
+    // 댓글 수 증가
+    int increaseCommentCount(Long postId);
+
+    // 댓글 수 감소 (댓글 삭제 전에 호출)
+    int decreaseCommentCountByCommentId(Long commentId);
+
     // [추가] 댓글 미리보기 (3개)
     List<PostCommentDto> selectPostCommentsPreview(Long postId);
 
@@ -51,20 +92,22 @@ public interface ReviewMapper {
     // [추가] 댓글 삭제
     int deletePostComment(Long commentId);
 
-    // [추가] 좋아요 상태 확인
-    int checkPostLike(@Param("postId") Long postId, @Param("userId") Long userId);
+    // 좋아요한 사용자 목록
+    List<Long> selectLikedUserIds(Long postId);
+
+    // 좋아요 일괄 등록 (이미 있으면 무시)
+    int insertPostLikes(@Param("likes") List<PostLikeChange> likes);
 
-    // [추가] 좋아요 등록
-    int insertPostLike(@Param("postId") Long postId, @Param("userId") Long userId);
+    // 좋아요 일괄 취소
+    int deletePostLikes(@Param("likes") List<PostLikeChange> likes);
 
-    // [추가] 좋아요 취소
-    int deletePostLike(@Param("postId") Long postId, @Param("userId") Long userId);
+    // 게시글 좋아요 수 재계산
+    int recountLikeCounts(@Param("postIds") Collection<Long> postIds);
 
-    // [추가] 게시글 좋아요 수 증가
-    int increaseLikeCount(@Param("postId") Long postId);
+    // 좋아요 수 보정 (fromId < post_id <= toId), 고친 게시글 수 반환
+    int reconcileLikeCounts(@Param("fromId") long fromId, @Param("toId") long toId);
 
-    // [추가] 게시글 좋아요 수 감소
-    int decreaseLikeCount(@Param("postId") Long postId);
+    long selectMaxPostId();
 
     // [수정] 여행기 삭제
     int deletePost(@Param("postId") Long postId, @Param("userId") Long userId);
@@ -82,7 +125,9 @@ public interface ReviewMapper {
     void insertTripReviews(List<TripPostRegistDto.PlaceReviewDto> list);
 
     // [추가] XML 쿼리 ID와 일치하는 메서드
-    List<PostListDto> selectMyPostList(Long userId);
+    List<PostListDto> selectMyPostList(@Param("userId") Long userId,
+                                       @Param("cursor") Cursor cursor,
+                                       @Param("limit") int limit);
 
     // 1. 게시글 수정 (제목, 내용)
     int updatePost(
@@ -92,16 +137,16 @@ public interface ReviewMapper {
             @Param("content") String content
     );
 
-    // 2. 장소별 리뷰 수정 (별점, 코멘트)
-    void updatePlaceReview(
+    // 2. 장소별 리뷰 일괄 저장 (있으면 별점/코멘트 수정, 없으면 등록)
+    void upsertPlaceReviews(
             @Param("postId") Long postId,
-            @Param("planScheduleId") Long planScheduleId,
-            @Param("rating") int rating,
-            @Param("comment") String comment
+            @Param("reviews") List<ReviewUpdateDto.PlaceReviewUpdateDto> reviews
     );
 
     // [추가]
-    List<PostListDto> selectLikedPostList(@Param("userId") Long userId);
+    List<PostListDto> selectLikedPostList(@Param("userId") Long userId,
+                                          @Param("cursor") Cursor cursor,
+                                          @Param("limit") int limit);
 
     // [추가] 게시글 작성자 ID 조회 (알림 발송용)
     Long selectWriterId(Long postId);
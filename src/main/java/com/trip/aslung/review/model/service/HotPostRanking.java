@@ -0,0 +1,232 @@
+package com.trip.aslung.review.model.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.trip.aslung.config.ServerNode;
+import com.trip.aslung.review.model.dto.PostHotScore;
+import com.trip.aslung.review.model.dto.PostListDto;
+import com.trip.aslung.review.model.event.PostChangedEvent;
+import com.trip.aslung.review.model.mapper.ReviewMapper;
+import com.trip.aslung.util.JsonRedisCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * HOT 여행기 랭킹 (post:hot ZSET).
+ * 점수는 전방 감쇠(forward decay): 이벤트마다 weight * 2^((now - epoch) / 반감기) 를 더한다.
+ * 새 이벤트일수록 더 큰 값이 더해지므로 따로 점수를 깎지 않아도 오래된 인기 글이 자연스럽게 밀려나고,
+ * 값이 너무 커지기 전에 주기적으로 DB 에서 다시 계산하면서 epoch 를 현재로 옮긴다 (어긋난 점수도 이때 복구).
+ * - post:hot:epoch 점수 기준 시각 (epoch ms)
+ * - post:card:{postId} 목록 카드 (JSON), 조회 시 MySQL 을 거치지 않도록
+ * - post:hot:liked:{postId} (SET) 좋아요 점수를 이미 더한 userId (좋아요/취소 연타로 점수가 불어나지 않도록)
+ */
+@Slf4j
+@Service
+public class HotPostRanking {
+
+    private static final String RANKING_KEY = "post:hot";
+    private static final String EPOCH_KEY = "post:hot:epoch";
+    private static final String BUILDING_PREFIX = "post:hot:building:";
+    private static final String CARD_PREFIX = "post:card:";
+    private static final String LIKED_PREFIX = "post:hot:liked:";
+    private static final String LOCK_KEY = "lock:post-hot-rebuild";
+
+    // 재계산 전(epoch 없음)이면 건너뜀 (다음 재계산에 포함됨)
+    private static final RedisScript<Long> INCREMENT = new DefaultRedisScript<>(
+            "local epoch = redis.call('GET', KEYS[2]) " +
+            "if not epoch then return 0 end " +
+            "local inc = tonumber(ARGV[2]) * math.pow(2, (tonumber(ARGV[3]) - tonumber(epoch)) / tonumber(ARGV[4])) " +
+            "redis.call('ZINCRBY', KEYS[1], inc, ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    // 집계 기간 안에 처음 누른 좋아요만 점수 반영 (취소 후 다시 눌러도 한 번)
+    private static final RedisScript<Long> INCREMENT_LIKE = new DefaultRedisScript<>(
+            "if redis.call('SADD', KEYS[3], ARGV[5]) == 0 then return 0 end " +
+            "if redis.call('TTL', KEYS[3]) < 0 then redis.call('EXPIRE', KEYS[3], ARGV[6]) end " +
+            "local epoch = redis.call('GET', KEYS[2]) " +
+            "if not epoch then return 0 end " +
+            "local inc = tonumber(ARGV[2]) * math.pow(2, (tonumber(ARGV[3]) - tonumber(epoch)) / tonumber(ARGV[4])) " +
+            "redis.call('ZINCRBY', KEYS[1], inc, ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    // 새로 계산한 랭킹과 epoch 를 한 번에 교체
+    private static final RedisScript<Long> SWAP = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "else " +
+            "  redis.call('DEL', KEYS[2]) " +
+            "end " +
+            "redis.call('SET', KEYS[3], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final ReviewMapper reviewMapper;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final JsonRedisCache jsonRedisCache;
+    private final ServerNode serverNode;
+
+    @Value("${aslung.post.hot.half-life-hours:24}")
+    private long halfLifeHours;
+
+    @Value("${aslung.post.hot.window-days:7}")
+    private long windowDays;
+
+    @Value("${aslung.post.hot.size:200}")
+    private int rankingSize;
+
+    @Value("${aslung.post.hot.like-weight:3}")
+    private double likeWeight;
+
+    @Value("${aslung.post.hot.view-weight:1}")
+    private double viewWeight;
+
+    @Value("${aslung.post.hot.comment-weight:5}")
+    private double commentWeight;
+
+    @Value("${aslung.post.hot.card-ttl-minutes:10}")
+    private long cardTtlMinutes;
+
+    public HotPostRanking(ReviewMapper reviewMapper,
+                          RedisTemplate<String, Object> redisTemplate,
+                          JsonRedisCache jsonRedisCache,
+                          ServerNode serverNode) {
+        this.reviewMapper = reviewMapper;
+        this.redisTemplate = redisTemplate;
+        this.jsonRedisCache = jsonRedisCache;
+        this.serverNode = serverNode;
+    }
+
+    public void onLike(Long postId, Long userId) {
+        redisTemplate.execute(INCREMENT_LIKE, List.of(RANKING_KEY, EPOCH_KEY, LIKED_PREFIX + postId),
+                String.valueOf(postId), String.valueOf(likeWeight),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(halfLifeMs()),
+                String.valueOf(userId), String.valueOf(Duration.ofDays(windowDays).toSeconds()));
+    }
+
+    public void onView(Long postId) {
+        increment(postId, viewWeight);
+    }
+
+    public void onComment(Long postId) {
+        increment(postId, commentWeight);
+    }
+
+    // 상위 N개 (랭킹이 아직 없으면 한 번 만들고 조회)
+    // 삭제된 글이 섞여 있어도 N개를 채우도록 여유분까지 가져와서 거른 뒤 자름
+    public List<PostListDto> top(int size) {
+        int fetchSize = size * 2;
+        List<Long> postIds = topIds(fetchSize);
+        if (postIds.isEmpty() && !Boolean.TRUE.equals(redisTemplate.hasKey(EPOCH_KEY))) {
+            rebuild();
+            postIds = topIds(fetchSize);
+        }
+        return cards(postIds).stream().limit(size).toList();
+    }
+
+    // 글 수정/삭제가 커밋되면 카드 제거, 삭제된 글은 랭킹에서도 제거 (다음 재계산까지 남지 않도록)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        Long postId = event.getPostId();
+        jsonRedisCache.delete(CARD_PREFIX + postId);
+        if (reviewMapper.selectPostCardsByIds(List.of(postId)).isEmpty()) {
+            redisTemplate.opsForZSet().remove(RANKING_KEY, String.valueOf(postId));
+        }
+    }
+
+    // 주기적으로 DB 에서 다시 계산 (epoch 이동 + 어긋난 점수 복구)
+    @Scheduled(fixedDelayString = "${aslung.post.hot.rebuild-ms:3600000}")
+    public void rebuild() {
+        String token = serverNode.getId() + ":" + System.nanoTime();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, Duration.ofMinutes(5));
+        if (!Boolean.TRUE.equals(locked)) return;
+
+        try {
+            // 1. 현재 시각을 새 epoch 로 점수 계산
+            long epochMs = System.currentTimeMillis();
+            LocalDateTime epoch = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZoneId.systemDefault());
+            List<PostHotScore> scores = reviewMapper.selectHotScores(epoch, epoch.minusDays(windowDays),
+                    halfLifeMs() / 1000, likeWeight, viewWeight, commentWeight, rankingSize);
+
+            // 2. 임시 키에 채운 뒤 한 번에 교체 (교체 전까지는 기존 랭킹으로 응답)
+            String buildingKey = BUILDING_PREFIX + serverNode.getId();
+            redisTemplate.delete(buildingKey);
+            if (!scores.isEmpty()) {
+                Set<ZSetOperations.TypedTuple<Object>> tuples = scores.stream()
+                        .map(s -> new DefaultTypedTuple<Object>(String.valueOf(s.getPostId()), s.getScore()))
+                        .collect(Collectors.toSet());
+                redisTemplate.opsForZSet().add(buildingKey, tuples);
+            }
+            redisTemplate.execute(SWAP, List.of(buildingKey, RANKING_KEY, EPOCH_KEY), String.valueOf(epochMs));
+
+            log.debug("HOT 랭킹 재계산 - {}개", scores.size());
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK, List.of(LOCK_KEY), token);
+        }
+    }
+
+    private void increment(Long postId, double weight) {
+        redisTemplate.execute(INCREMENT, List.of(RANKING_KEY, EPOCH_KEY),
+                String.valueOf(postId), String.valueOf(weight),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(halfLifeMs()));
+    }
+
+    private List<Long> topIds(int size) {
+        Set<Object> members = redisTemplate.opsForZSet().reverseRange(RANKING_KEY, 0, size - 1);
+        if (members == null) return List.of();
+        return members.stream().map(m -> Long.valueOf(m.toString())).toList();
+    }
+
+    // 카드는 캐시 우선, 없는 것만 DB 에서 한 번에 조회 (랭킹 순서 유지)
+    private List<PostListDto> cards(List<Long> postIds) {
+        Map<Long, PostListDto> cards = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long postId : postIds) {
+            PostListDto card = jsonRedisCache.get(CARD_PREFIX + postId, new TypeReference<PostListDto>() {});
+            if (card != null) cards.put(postId, card);
+            else missing.add(postId);
+        }
+
+        if (!missing.isEmpty()) {
+            for (PostListDto card : reviewMapper.selectPostCardsByIds(missing)) {
+                cards.put(card.getPostId(), card);
+                jsonRedisCache.set(CARD_PREFIX + card.getPostId(), card, Duration.ofMinutes(cardTtlMinutes));
+            }
+
+            // DB 에도 없는 글은 삭제된 것이므로 랭킹에서 제거
+            Object[] deleted = missing.stream().filter(id -> !cards.containsKey(id)).map(String::valueOf).toArray();
+            if (deleted.length > 0) {
+                redisTemplate.opsForZSet().remove(RANKING_KEY, deleted);
+            }
+        }
+
+        // 삭제된 게시글은 건너뜀
+        return postIds.stream().map(cards::get).filter(Objects::nonNull).toList();
+    }
+
+    private long halfLifeMs() {
+        return Duration.ofHours(halfLifeHours).toMillis();
+    }
+}
@@ -0,0 +1,197 @@
+package com.trip.aslung.review.model.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.trip.aslung.review.model.dto.PostDetailDto;
+import com.trip.aslung.review.model.event.PostChangedEvent;
+import com.trip.aslung.review.model.event.PostCommentChangedEvent;
+import com.trip.aslung.review.model.mapper.ReviewMapper;
+import com.trip.aslung.util.JsonRedisCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여행기 상세 캐시 (사용자와 무관한 부분만: 본문, 코스, 댓글 미리보기, 집계 값).
+ * 로컬 메모리 -> Redis(PD:{postId}) -> DB 순으로 조회하고, 글/리뷰/댓글 변경이 커밋되면
+ * Redis 키를 지우고 pub/sub 으로 모든 노드의 로컬 캐시를 비운다.
+ * 변경 전에 DB 를 읽은 조회가 지운 뒤에 옛 값을 다시 써넣지 않도록, 글마다 세대 번호(PDG:{postId})를 두고
+ * 조회 시작 때와 세대가 같을 때만 Redis 에 저장한다.
+ * 조회수는 DB 값에서 PostViewCounter 의 반영 누적을 뺀 기준값으로 저장하고 호출한 쪽에서 더하므로
+ * 조회수 반영 때는 캐시를 지우지 않는다. 좋아요 여부 / 좋아요 수도 호출한 쪽에서 덮어쓴다 (반환값은 매번 복사본).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDetailCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "PD:";
+    private static final String GENERATION_PREFIX = "PDG:";
+    private static final String EVICT_CHANNEL = "post-detail:evict";
+
+    // 세대가 조회 시작 때와 같을 때만 저장 (그 사이에 evict 가 있었으면 옛 값이므로 버림)
+    private static final RedisScript<Long> SET_IF_GENERATION = new DefaultRedisScript<>(
+            "local generation = redis.call('GET', KEYS[2]) or '0' " +
+            "if generation ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    // 세대를 올리고 값을 지움
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return 1",
+            Long.class);
+
+    private final ReviewMapper reviewMapper;
+    private final PostViewCounter postViewCounter;
+    private final JsonRedisCache jsonRedisCache;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Map<Long, CachedDetail> localCache = new ConcurrentHashMap<>();
+
+    // 로컬 캐시 제거가 일어날 때마다 증가 (제거 전에 읽은 값을 제거 후에 로컬에 넣지 않도록)
+    private final AtomicLong localEvictions = new AtomicLong();
+
+    @Value("${aslung.post-detail-cache.local-ttl-seconds:10}")
+    private long localTtlSeconds;
+
+    @Value("${aslung.post-detail-cache.redis-ttl-minutes:5}")
+    private long redisTtlMinutes;
+
+    @Value("${aslung.post-detail-cache.local-max-size:1000}")
+    private int localMaxSize;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    // 없는 글이면 null
+    public PostDetailDto get(Long postId) {
+        long now = System.currentTimeMillis();
+
+        // 1. 로컬 캐시
+        CachedDetail cached = localCache.get(postId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.detail().copy();
+        }
+
+        long evictions = localEvictions.get();
+
+        // 2. Redis
+        String key = KEY_PREFIX + postId;
+        PostDetailDto detail = jsonRedisCache.get(key, new TypeReference<PostDetailDto>() {});
+        boolean fresh = true;
+
+        // 3. DB
+        if (detail == null) {
+            String generationKey = GENERATION_PREFIX + postId;
+            Object generation = redisTemplate.opsForValue().get(generationKey);
+
+            long[] before = postViewCounter.flushMark(postId);
+            detail = load(postId);
+            if (detail == null) return null;
+            long[] after = postViewCounter.flushMark(postId);
+
+            // 조회수는 반영 누적을 뺀 기준값으로 (DB 를 읽는 동안 반영이 끼었으면 기준이 불확실하므로 이번 결과만 씀)
+            detail.setViewCount(detail.getViewCount() - (int) after[0]);
+            fresh = before[0] == after[0] && before[1] == 0 && after[1] == 0;
+
+            String json = fresh ? jsonRedisCache.toJson(key, detail) : null;
+            if (json != null) {
+                Long stored = redisTemplate.execute(SET_IF_GENERATION, List.of(key, generationKey),
+                        generation == null ? "0" : generation.toString(), json,
+                        String.valueOf(TimeUnit.MINUTES.toSeconds(redisTtlMinutes)));
+                fresh = stored != null && stored == 1L;
+            } else {
+                fresh = false;
+            }
+        }
+
+        // 조회 도중 글이 바뀌었으면 이번 결과만 쓰고 로컬에는 남기지 않음
+        if (fresh && localEvictions.get() == evictions) {
+            if (localCache.size() >= localMaxSize) {
+                localCache.clear();
+            }
+            localCache.put(postId, new CachedDetail(detail, now + TimeUnit.SECONDS.toMillis(localTtlSeconds)));
+        }
+
+        return detail.copy();
+    }
+
+    public void evict(Collection<Long> postIds) {
+        if (postIds.isEmpty()) return;
+
+        evictLocal(postIds);
+        String generationTtl = String.valueOf(TimeUnit.MINUTES.toSeconds(redisTtlMinutes) * 2);
+        for (Long postId : postIds) {
+            redisTemplate.execute(EVICT, List.of(KEY_PREFIX + postId, GENERATION_PREFIX + postId), generationTtl);
+        }
+        redisTemplate.convertAndSend(EVICT_CHANNEL,
+                String.join(",", postIds.stream().map(String::valueOf).toList()));
+    }
+
+    // 글/리뷰 변경, 댓글 변경이 커밋된 후에 캐시 제거
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        evict(List.of(event.getPostId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCommentChanged(PostCommentChangedEvent event) {
+        evict(List.of(event.getPostId()));
+    }
+
+    // 다른 노드에서 보낸 로컬 캐시 제거 요청 ("1,2,3")
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        List<Long> postIds = new ArrayList<>();
+        for (String postId : new String(message.getBody(), StandardCharsets.UTF_8).split(",")) {
+            if (!postId.isBlank()) postIds.add(Long.valueOf(postId));
+        }
+        evictLocal(postIds);
+    }
+
+    private void evictLocal(Collection<Long> postIds) {
+        localEvictions.incrementAndGet();
+        postIds.forEach(localCache::remove);
+    }
+
+    private PostDetailDto load(Long postId) {
+        PostDetailDto post = reviewMapper.selectPostDetail(postId);
+        if (post == null) return null;
+
+        if (post.getPlanId() != null) {
+            post.setSchedules(reviewMapper.selectPostSchedules(post.getPlanId(), postId));
+        }
+
+        // [수정] 장소 리뷰 대신 -> 게시글 댓글(미리보기 3개)을 가져와서 넣음
+        post.setComments(reviewMapper.selectPostCommentsPreview(postId));
+        return post;
+    }
+
+    private record CachedDetail(PostDetailDto detail, long expiresAt) {
+    }
+}
@@ -0,0 +1,246 @@
+package com.trip.aslung.review.model.service;
+
+import com.trip.aslung.config.ServerNode;
+import com.trip.aslung.notification.model.NotificationType;
+import com.trip.aslung.notification.model.service.NotificationService;
+import com.trip.aslung.review.model.dto.PostDetailDto;
+import com.trip.aslung.review.model.dto.PostLikeChange;
+import com.trip.aslung.review.model.mapper.ReviewMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여행기 좋아요 (Redis 에서 바로 토글하고 DB 는 모아서 반영).
+ * - post:likes:{postId} (SET) 좋아요한 userId + 빈 집합 구분용 "0"
+ * - post:likes:dirty (HASH) "postId:userId" -> 1(좋아요)/0(취소), 아직 DB 에 반영 안 된 최종 상태
+ * - post:likes:flushing (HASH) 반영 중인 상태, post:likes:flush-lease 를 잡은 노드 하나만 반영
+ *   (실패하거나 노드가 죽으면 임대가 풀린 뒤 어느 노드든 다시 반영)
+ * 토글은 Lua 한 번으로 처리해서 연타해도 집합/개수가 어긋나지 않는다.
+ */
+@Slf4j
+@Service
+public class PostLikeService {
+
+    private static final String LIKES_PREFIX = "post:likes:";
+    private static final String DIRTY_KEY = "post:likes:dirty";
+    private static final String FLUSHING_KEY = "post:likes:flushing";
+    private static final String LEASE_KEY = "post:likes:flush-lease";
+    private static final String EMPTY_MARKER = "0";
+    private static final int LOAD_CHUNK = 5000;
+
+    // 집합이 없으면 {-1}, 있으면 토글 후 {좋아요 여부, 좋아요 수}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOGGLE = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {-1} end " +
+            "local liked = 1 " +
+            "if redis.call('SREM', KEYS[1], ARGV[1]) == 1 then liked = 0 " +
+            "else redis.call('SADD', KEYS[1], ARGV[1]) end " +
+            "redis.call('HSET', KEYS[2], ARGV[2] .. ':' .. ARGV[1], liked) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "return {liked, redis.call('SCARD', KEYS[1]) - 1}",
+            List.class);
+
+    // DB 에서 읽은 좋아요 목록 적재 (그 사이 다른 요청이 먼저 적재했으면 그대로 둠)
+    private static final RedisScript<Long> LOAD = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('SADD', KEYS[1], unpack(ARGV, 2)) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    // 반영 임대를 잡은 노드만 반영할 상태를 가져옴 (이전에 반영 못 한 게 남아 있으면 그것부터)
+    // 반영 도중 노드가 죽어도 반영 중 키는 공용이라 임대가 끝나면 다른 노드가 이어서 반영
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GRAB = new DefaultRedisScript<>(
+            "if not redis.call('SET', KEYS[3], ARGV[1], 'NX', 'PX', ARGV[2]) then return {} end " +
+            "if redis.call('EXISTS', KEYS[2]) == 0 then " +
+            "  if redis.call('EXISTS', KEYS[1]) == 0 then " +
+            "    redis.call('DEL', KEYS[3]) " +
+            "    return {} " +
+            "  end " +
+            "  redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "end " +
+            "return redis.call('HGETALL', KEYS[2])",
+            List.class);
+
+    // 내가 잡은 임대일 때만 반영 중 키 삭제 + 임대 해제
+    private static final RedisScript<Long> COMPLETE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return redis.call('DEL', KEYS[2])",
+            Long.class);
+
+    // 반영 실패 시 내가 잡은 임대만 해제 (반영 중 키는 남겨서 다음 주기에 다시 반영)
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final ReviewMapper reviewMapper;
+    private final NotificationService notificationService;
+    private final HotPostRanking hotPostRanking;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ServerNode serverNode;
+    private final Counter flushedCounter;
+    private final Counter reconciledCounter;
+
+    @Value("${aslung.post.like.ttl-seconds:604800}")
+    private long ttlSeconds;
+
+    // 반영 한 번에 걸리는 시간보다 넉넉하게 (노드가 죽었을 때 이만큼 뒤에 다른 노드가 이어받음)
+    @Value("${aslung.post.like.flush-lease-seconds:60}")
+    private long flushLeaseSeconds;
+
+    @Value("${aslung.post.like.reconcile-batch-size:1000}")
+    private int reconcileBatchSize;
+
+    public PostLikeService(ReviewMapper reviewMapper,
+                           NotificationService notificationService,
+                           HotPostRanking hotPostRanking,
+                           RedisTemplate<String, Object> redisTemplate,
+                           TransactionTemplate transactionTemplate,
+                           ServerNode serverNode,
+                           MeterRegistry meterRegistry) {
+        this.reviewMapper = reviewMapper;
+        this.notificationService = notificationService;
+        this.hotPostRanking = hotPostRanking;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.serverNode = serverNode;
+        this.flushedCounter = Counter.builder("aslung.post.like.flushed")
+                .description("DB 에 반영한 좋아요 변경 수")
+                .register(meterRegistry);
+        this.reconciledCounter = Counter.builder("aslung.post.like.reconciled")
+                .description("보정 작업에서 좋아요 수를 고친 게시글 수")
+                .register(meterRegistry);
+    }
+
+    // 좋아요 토글, 좋아요 상태 반환
+    public boolean toggle(Long postId, Long userId) {
+        List<Object> result = execute(postId, userId);
+        if (isNotLoaded(result)) {
+            load(postId);
+            result = execute(postId, userId);
+        }
+
+        boolean liked = ((Number) result.get(0)).intValue() == 1;
+        if (liked) hotPostRanking.onLike(postId, userId);
+        return liked;
+    }
+
+    // 상세 조회 결과(사용자 무관 캐시)에 좋아요 수/여부를 덮어씀
+    // 집합이 있으면 Redis 값 (아직 DB 에 반영 안 된 상태 포함), 없으면 좋아요 여부만 DB 에서 한 건 조회
+    public void overlay(PostDetailDto post, Long userId) {
+        String key = LIKES_PREFIX + post.getPostId();
+        Long size = redisTemplate.opsForSet().size(key);
+
+        if (size != null && size > 0) {
+            post.setLikeCount((int) (size - 1));
+            post.setLiked(userId != null
+                    && Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(key, String.valueOf(userId))));
+            return;
+        }
+        post.setLiked(userId != null && reviewMapper.existsPostLike(post.getPostId(), userId));
+    }
+
+    // 1. 모인 상태를 한 트랜잭션으로 반영 (등록/취소 일괄 처리 + 좋아요 수 재계산 + 알림 아웃박스)
+    @Scheduled(fixedDelayString = "${aslung.post.like.flush-ms:2000}")
+    @SuppressWarnings("unchecked")
+    public void flush() {
+        String token = serverNode.getId() + ":" + System.nanoTime();
+        List<Object> entries = redisTemplate.execute(GRAB, List.of(DIRTY_KEY, FLUSHING_KEY, LEASE_KEY),
+                token, String.valueOf(TimeUnit.SECONDS.toMillis(flushLeaseSeconds)));
+        if (entries == null || entries.isEmpty()) return;
+
+        // HGETALL 결과는 ["postId:userId", 상태, ...]
+        List<PostLikeChange> likes = new ArrayList<>();
+        List<PostLikeChange> unlikes = new ArrayList<>();
+        Set<Long> postIds = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            String[] field = entries.get(i).toString().split(":");
+            PostLikeChange change = new PostLikeChange(Long.valueOf(field[0]), Long.valueOf(field[1]),
+                    "1".equals(entries.get(i + 1).toString()));
+            (change.isLiked() ? likes : unlikes).add(change);
+            postIds.add(change.getPostId());
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!likes.isEmpty()) reviewMapper.insertPostLikes(likes);
+                if (!unlikes.isEmpty()) reviewMapper.deletePostLikes(unlikes);
+                reviewMapper.recountLikeCounts(postIds);
+
+                // 알림은 반영 시점에 기록 (짧은 시간 안에 눌렀다 취소한 건 알림 없음)
+                likes.forEach(like -> notificationService.sendToPostWriter(
+                        like.getUserId(), NotificationType.POST_LIKE, like.getPostId(), null));
+            });
+        } catch (RuntimeException e) {
+            redisTemplate.execute(RELEASE, List.of(LEASE_KEY), token);
+            throw e;
+        }
+        redisTemplate.execute(COMPLETE, List.of(FLUSHING_KEY, LEASE_KEY), token);
+
+        flushedCounter.increment(likes.size() + unlikes.size());
+        log.debug("좋아요 반영 - 등록 {}건, 취소 {}건", likes.size(), unlikes.size());
+    }
+
+    // 2. 보정: posts.like_count 를 post_likes 기준으로 구간별로 맞춤 (반영 실패/수동 수정 등으로 어긋난 값)
+    @Scheduled(cron = "${aslung.post.like.reconcile-cron:0 0 5 * * *}")
+    public void reconcile() {
+        long maxPostId = reviewMapper.selectMaxPostId();
+        long fixed = 0;
+        for (long from = 0; from < maxPostId; from += reconcileBatchSize) {
+            fixed += reviewMapper.reconcileLikeCounts(from, from + reconcileBatchSize);
+        }
+
+        reconciledCounter.increment(fixed);
+        if (fixed > 0) log.info("좋아요 수 보정 - 게시글 {}개", fixed);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> execute(Long postId, Long userId) {
+        return redisTemplate.execute(TOGGLE, List.of(LIKES_PREFIX + postId, DIRTY_KEY),
+                String.valueOf(userId), String.valueOf(postId), String.valueOf(ttlSeconds));
+    }
+
+    private boolean isNotLoaded(List<Object> result) {
+        return result == null || ((Number) result.get(0)).intValue() == -1;
+    }
+
+    // Lua 인자 수 제한이 있어서 첫 묶음만 스크립트로 만들고 나머지는 이어서 추가
+    private void load(Long postId) {
+        String key = LIKES_PREFIX + postId;
+        List<String> members = new ArrayList<>();
+        members.add(EMPTY_MARKER);
+        reviewMapper.selectLikedUserIds(postId).forEach(id -> members.add(String.valueOf(id)));
+
+        List<String> first = members.subList(0, Math.min(LOAD_CHUNK, members.size()));
+        List<Object> args = new ArrayList<>();
+        args.add(String.valueOf(ttlSeconds));
+        args.addAll(first);
+
+        Long created = redisTemplate.execute(LOAD, List.of(key), args.toArray());
+        if (created == null || created == 0) return;
+
+        for (int i = LOAD_CHUNK; i < members.size(); i += LOAD_CHUNK) {
+            redisTemplate.opsForSet().add(key, members.subList(i, Math.min(i + LOAD_CHUNK, members.size())).toArray());
+        }
+    }
+}
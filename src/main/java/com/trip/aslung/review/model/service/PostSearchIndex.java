@@ -0,0 +1,252 @@
+package com.trip.aslung.review.model.service;
+
+import com.trip.aslung.config.ServerNode;
+import com.trip.aslung.review.model.dto.PostSearchDocument;
+import com.trip.aslung.review.model.event.PostChangedEvent;
+import com.trip.aslung.review.model.mapper.ReviewMapper;
+import com.trip.aslung.util.HangulTokenizer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 여행기 검색 색인 (노드 메모리, BM25 점수).
+ * - 제목/지역/장소명/본문을 HangulTokenizer 로 잘라 역색인 (필드 가중치만큼 빈도를 더함)
+ * - 시작 시 DB 에서 한 번 만들고, 여행기 변경은 커밋 후 해당 글만 다시 색인
+ * - 다른 노드는 Redis 채널(post:search)로 변경된 글 ID 를 받아 같은 방식으로 갱신
+ * - 장소명처럼 다른 곳에서 바뀌는 값은 매일 전체 재색인으로 맞춤
+ */
+@Slf4j
+@Service
+public class PostSearchIndex implements MessageListener {
+
+    private static final String CHANNEL = "post:search";
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 필드 가중치 (제목에 나온 단어가 본문에 나온 단어보다 중요)
+    private static final int TITLE_WEIGHT = 3;
+    private static final int REGION_WEIGHT = 2;
+    private static final int PLACE_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    private final ReviewMapper reviewMapper;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ServerNode serverNode;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, Map<Long, Integer>> postings = new HashMap<>(); // 단어 -> (postId -> 빈도)
+    private Map<Long, Map<String, Integer>> documents = new HashMap<>(); // postId -> (단어 -> 빈도)
+    private Map<Long, Integer> lengths = new HashMap<>();                // postId -> 문서 길이
+    private long totalLength;
+    private Set<Long> changedDuringRebuild; // 전체 색인 중에 바뀐 글 (색인 중이 아니면 null), 쓰기 잠금 안에서만
+    private volatile boolean ready;
+
+    public PostSearchIndex(ReviewMapper reviewMapper,
+                           RedisTemplate<String, Object> redisTemplate,
+                           RedisMessageListenerContainer redisMessageListenerContainer,
+                           ServerNode serverNode) {
+        this.reviewMapper = reviewMapper;
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.serverNode = serverNode;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 색인이 만들어지기 전에는 기존 DB 검색을 사용
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 점수 순 postId (같은 점수면 최신 글 먼저)
+     * @param offset 건너뛸 개수
+     * @param limit  가져올 개수
+     */
+    public List<Long> search(String keyword, int offset, int limit) {
+        List<String> terms = HangulTokenizer.tokenize(keyword);
+        if (terms.isEmpty()) return List.of();
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int docCount = documents.size();
+            if (docCount == 0) return List.of();
+            double avgLength = (double) totalLength / docCount;
+
+            for (String term : new LinkedHashSet<>(terms)) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) continue;
+
+                double idf = Math.log(1 + (docCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    int tf = entry.getValue();
+                    double norm = K1 * (1 - B + B * lengths.get(entry.getKey()) / avgLength);
+                    scores.merge(entry.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                .skip(offset)
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    // 1. 전체 색인 (시작 시 + 매일), 새로 만든 뒤 한 번에 교체
+    // 만드는 동안 바뀐 글은 기록해 뒀다가 교체 후 다시 색인 (새 색인을 읽기 전에 적용된 변경이 사라지지 않도록)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${aslung.post.search.rebuild-cron:0 0 4 * * *}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<String, Map<Long, Integer>> newPostings = new HashMap<>();
+        Map<Long, Map<String, Integer>> newDocuments = new HashMap<>();
+        Map<Long, Integer> newLengths = new HashMap<>();
+        long newTotalLength = 0;
+
+        try {
+            long afterId = 0;
+            while (true) {
+                List<PostSearchDocument> batch = reviewMapper.selectSearchDocuments(afterId, LOAD_BATCH_SIZE);
+                for (PostSearchDocument doc : batch) {
+                    newTotalLength += add(doc, newPostings, newDocuments, newLengths);
+                }
+                if (batch.size() < LOAD_BATCH_SIZE) break;
+                afterId = batch.get(batch.size() - 1).getPostId();
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        // 교체와 기록 종료를 같은 잠금 안에서 (그 사이에 바뀐 글이 어느 쪽에서도 빠지지 않도록)
+        Set<Long> changed;
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documents = newDocuments;
+            lengths = newLengths;
+            totalLength = newTotalLength;
+            changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 교체 이후에 바뀐 글은 새 색인에 바로 반영되므로, 교체 전까지 기록된 글만 다시 색인
+        changed.forEach(this::reindex);
+
+        ready = true;
+        log.info("여행기 검색 색인 완료 - 문서 {}개, 단어 {}개, 색인 중 변경 {}개",
+                newDocuments.size(), newPostings.size(), changed.size());
+    }
+
+    // 2. 이 노드에서 바뀐 글: 다시 색인하고 다른 노드에 알림
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        reindex(event.getPostId());
+        redisTemplate.convertAndSend(CHANNEL, serverNode.getId() + ":" + event.getPostId());
+    }
+
+    // 3. 다른 노드에서 바뀐 글
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        if (body.length != 2 || serverNode.getId().toString().equals(body[0])) return;
+
+        reindex(Long.valueOf(body[1]));
+    }
+
+    // 삭제된 글이면 색인에서만 빠짐
+    private void reindex(Long postId) {
+        PostSearchDocument doc = reviewMapper.selectSearchDocument(postId);
+
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) changedDuringRebuild.add(postId);
+            totalLength -= remove(postId);
+            if (doc != null) {
+                totalLength += add(doc, postings, documents, lengths);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 문서 길이 반환
+    private int add(PostSearchDocument doc,
+                    Map<String, Map<Long, Integer>> postings,
+                    Map<Long, Map<String, Integer>> documents,
+                    Map<Long, Integer> lengths) {
+        Map<String, Integer> termCounts = new HashMap<>();
+        count(doc.getTitle(), TITLE_WEIGHT, termCounts);
+        count(doc.getRegionName(), REGION_WEIGHT, termCounts);
+        count(doc.getPlaceNames(), PLACE_WEIGHT, termCounts);
+        count(doc.getContent(), CONTENT_WEIGHT, termCounts);
+
+        termCounts.forEach((term, tf) -> postings.computeIfAbsent(term, k -> new HashMap<>()).put(doc.getPostId(), tf));
+        int length = termCounts.values().stream().mapToInt(Integer::intValue).sum();
+        documents.put(doc.getPostId(), termCounts);
+        lengths.put(doc.getPostId(), length);
+        return length;
+    }
+
+    // 지운 문서 길이 반환 (없으면 0)
+    private int remove(Long postId) {
+        Map<String, Integer> termCounts = documents.remove(postId);
+        if (termCounts == null) return 0;
+
+        for (String term : termCounts.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) continue;
+            posting.remove(postId);
+            if (posting.isEmpty()) postings.remove(term);
+        }
+        Integer length = lengths.remove(postId);
+        return (length != null) ? length : 0;
+    }
+
+    private void count(String text, int weight, Map<String, Integer> termCounts) {
+        for (String term : HangulTokenizer.tokenize(text)) {
+            termCounts.merge(term, weight, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.trip.aslung.review.model.service;
+
+import com.trip.aslung.config.ServerNode;
+import com.trip.aslung.review.model.mapper.ReviewMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여행기 조회수 (상세 조회에서 DB 쓰기를 없애기 위해 Redis 에 모았다가 주기적으로 반영).
+ * - post:view:dedup:{postId}:{viewer} 같은 사용자/IP 는 일정 시간 동안 한 번만 셈
+ * - post:view:pending (HASH) postId -> 아직 DB 에 반영 안 된 조회수
+ * - post:view:unique:{postId} (HyperLogLog) 순 방문자 수
+ * - post:view:flushing (HASH) 반영 중인 조회수, post:view:flush-lease 를 잡은 노드 하나만 반영
+ *   (실패하거나 노드가 죽으면 임대가 풀린 뒤 어느 노드든 다시 반영)
+ * - post:view:flushed:{postId} 지금까지 DB 에 반영한 조회수 누적 (반영/캐시 적재 때마다 만료 연장, 상세 캐시보다 오래 유지)
+ *   상세 캐시는 DB 조회수에서 이 누적치를 뺀 값을 들고 있고, 보여줄 때 (누적 + 반영 중 + 대기) 를 더한다.
+ *   그래서 반영할 때마다 상세 캐시를 지우지 않아도 조회수가 겹치거나 빠지지 않는다.
+ */
+@Slf4j
+@Service
+public class PostViewCounter {
+
+    private static final String DEDUP_PREFIX = "post:view:dedup:";
+    private static final String PENDING_KEY = "post:view:pending";
+    private static final String UNIQUE_PREFIX = "post:view:unique:";
+    private static final String FLUSHING_KEY = "post:view:flushing";
+    private static final String LEASE_KEY = "post:view:flush-lease";
+    private static final String FLUSHED_PREFIX = "post:view:flushed:";
+
+    // 처음 본 사용자면 대기 조회수 + 순 방문자 반영
+    // {반영 누적 + 반영 중 + 대기 조회수, 순 방문자 수, 새 조회 여부} 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RECORD = new DefaultRedisScript<>(
+            "local pending " +
+            "local counted = 0 " +
+            "if redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[1]) then " +
+            "  pending = redis.call('HINCRBY', KEYS[2], ARGV[2], 1) " +
+            "  redis.call('PFADD', KEYS[3], ARGV[3]) " +
+            "  counted = 1 " +
+            "else " +
+            "  pending = tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0') " +
+            "end " +
+            "pending = pending + tonumber(redis.call('HGET', KEYS[4], ARGV[2]) or '0') " +
+            "  + tonumber(redis.call('GET', KEYS[5]) or '0') " +
+            "return {pending, redis.call('PFCOUNT', KEYS[3]), counted}",
+            List.class);
+
+    // {반영 누적, 반영 중 조회수}, 캐시가 이 누적을 기준으로 쓰므로 만료 연장
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FLUSH_MARK = new DefaultRedisScript<>(
+            "local flushed = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "if flushed > 0 then redis.call('EXPIRE', KEYS[1], ARGV[2]) end " +
+            "return {flushed, tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0')}",
+            List.class);
+
+    // 반영 임대를 잡은 노드만 반영할 상태를 가져옴 (이전에 반영 못 한 게 남아 있으면 그것부터)
+    // 반영 도중 노드가 죽어도 반영 중 키는 공용이라 임대가 끝나면 다른 노드가 이어서 반영
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GRAB = new DefaultRedisScript<>(
+            "if not redis.call('SET', KEYS[3], ARGV[1], 'NX', 'PX', ARGV[2]) then return {} end " +
+            "if redis.call('EXISTS', KEYS[2]) == 0 then " +
+            "  if redis.call('EXISTS', KEYS[1]) == 0 then " +
+            "    redis.call('DEL', KEYS[3]) " +
+            "    return {} " +
+            "  end " +
+            "  redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "end " +
+            "return redis.call('HGETALL', KEYS[2])",
+            List.class);
+
+    // 내가 잡은 임대일 때만 글별 반영 누적에 더하고 반영 중 키 삭제 + 임대 해제
+    private static final RedisScript<Long> COMPLETE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end " +
+            "local entries = redis.call('HGETALL', KEYS[1]) " +
+            "for i = 1, #entries, 2 do " +
+            "  local key = ARGV[2] .. entries[i] " +
+            "  redis.call('INCRBY', key, entries[i + 1]) " +
+            "  redis.call('EXPIRE', key, ARGV[3]) " +
+            "end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return redis.call('DEL', KEYS[2])",
+            Long.class);
+
+    // 반영 실패 시 내가 잡은 임대만 해제 (반영 중 키는 남겨서 다음 주기에 다시 반영)
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final ReviewMapper reviewMapper;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final HotPostRanking hotPostRanking;
+    private final ServerNode serverNode;
+    private final Counter flushedCounter;
+
+    @Value("${aslung.post.view.dedup-minutes:30}")
+    private long dedupMinutes;
+
+    // 반영 한 번에 걸리는 시간보다 넉넉하게 (노드가 죽었을 때 이만큼 뒤에 다른 노드가 이어받음)
+    @Value("${aslung.post.view.flush-lease-seconds:60}")
+    private long flushLeaseSeconds;
+
+    // 상세 캐시 TTL 보다 길어야 함 (누적이 먼저 사라지면 캐시된 기준값에 더할 값이 빠짐)
+    @Value("${aslung.post.view.flushed-ttl-hours:24}")
+    private long flushedTtlHours;
+
+    public PostViewCounter(ReviewMapper reviewMapper,
+                           RedisTemplate<String, Object> redisTemplate,
+                           HotPostRanking hotPostRanking,
+                           ServerNode serverNode,
+                           MeterRegistry meterRegistry) {
+        this.reviewMapper = reviewMapper;
+        this.redisTemplate = redisTemplate;
+        this.hotPostRanking = hotPostRanking;
+        this.serverNode = serverNode;
+        this.flushedCounter = Counter.builder("aslung.post.view.flushed")
+                .description("DB 에 반영한 조회수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회 기록 (로그인 사용자는 userId, 아니면 IP 기준으로 중복 제거)
+     * @return {반영 누적 + 아직 DB 에 반영 안 된 조회수, 순 방문자 수} (상세 캐시의 조회수에 더할 값)
+     */
+    @SuppressWarnings("unchecked")
+    public long[] record(Long postId, Long userId, String ip) {
+        String viewer = (userId != null) ? "u:" + userId : "ip:" + ip;
+
+        List<Object> result = redisTemplate.execute(RECORD,
+                List.of(DEDUP_PREFIX + postId + ":" + viewer, PENDING_KEY, UNIQUE_PREFIX + postId,
+                        FLUSHING_KEY, FLUSHED_PREFIX + postId),
+                String.valueOf(dedupMinutes * 60), String.valueOf(postId), viewer);
+        if (result == null || result.size() < 3) return new long[]{0, 0};
+
+        // 새 조회만 HOT 랭킹에 반영
+        if (((Number) result.get(2)).intValue() == 1) {
+            hotPostRanking.onView(postId);
+        }
+        return new long[]{((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue()};
+    }
+
+    /**
+     * 상세 캐시 적재용 반영 표시
+     * @return {반영 누적, 반영 중 조회수} (DB 를 읽기 전후가 같고 반영 중이 0 이어야 누적치가 DB 값과 맞음)
+     */
+    @SuppressWarnings("unchecked")
+    public long[] flushMark(Long postId) {
+        List<Object> result = redisTemplate.execute(FLUSH_MARK, List.of(FLUSHED_PREFIX + postId, FLUSHING_KEY),
+                String.valueOf(postId), String.valueOf(flushedTtlSeconds()));
+        if (result == null || result.size() < 2) return new long[]{0, 0};
+        return new long[]{((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue()};
+    }
+
+    // 주기적으로 모인 조회수를 한 번의 UPDATE 로 반영
+    @Scheduled(fixedDelayString = "${aslung.post.view.flush-ms:10000}")
+    @SuppressWarnings("unchecked")
+    public void flush() {
+        String token = serverNode.getId() + ":" + System.nanoTime();
+        List<Object> entries = redisTemplate.execute(GRAB, List.of(PENDING_KEY, FLUSHING_KEY, LEASE_KEY),
+                token, String.valueOf(TimeUnit.SECONDS.toMillis(flushLeaseSeconds)));
+        if (entries == null || entries.isEmpty()) return;
+
+        // HGETALL 결과는 [postId, count, postId, count, ...]
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            deltas.put(Long.valueOf(entries.get(i).toString()), Long.valueOf(entries.get(i + 1).toString()));
+        }
+
+        try {
+            reviewMapper.increaseViewCounts(deltas);
+        } catch (RuntimeException e) {
+            redisTemplate.execute(RELEASE, List.of(LEASE_KEY), token);
+            throw e;
+        }
+        redisTemplate.execute(COMPLETE, List.of(FLUSHING_KEY, LEASE_KEY), token,
+                FLUSHED_PREFIX, String.valueOf(flushedTtlSeconds()));
+
+        long total = deltas.values().stream().mapToLong(Long::longValue).sum();
+        flushedCounter.increment(total);
+        log.debug("조회수 반영 - 게시글 {}개, {}회", deltas.size(), total);
+    }
+
+    private long flushedTtlSeconds() {
+        return TimeUnit.HOURS.toSeconds(flushedTtlHours);
+    }
+}
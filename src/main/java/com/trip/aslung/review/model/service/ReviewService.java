@@ -1,15 +1,25 @@
 package com.trip.aslung.review.model.service;
 
-import com.trip.aslung.notification.model.dto.NotificationDto;
-import com.trip.aslung.notification.model.mapper.NotificationMapper;
+import com.trip.aslung.notification.model.NotificationType;
+import com.trip.aslung.notification.model.service.NotificationService;
 import com.trip.aslung.review.model.dto.*;
+import com.trip.aslung.review.model.event.PostChangedEvent;
+import com.trip.aslung.review.model.event.PostCommentChangedEvent;
 import com.trip.aslung.review.model.mapper.ReviewMapper;
+import com.trip.aslung.util.Cursor;
+import com.trip.aslung.util.CursorPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List; // [추가] List 사용을 위해 필요
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @Slf4j
@@ -18,13 +28,31 @@ public class ReviewService {
 
     private final ReviewMapper reviewMapper;
 
-    private final NotificationMapper notificationMapper;
+    private final NotificationService notificationService;
+
+    private final PostViewCounter postViewCounter;
+
+    private final PostLikeService postLikeService;
+
+    private final HotPostRanking hotPostRanking;
+
+    private final PostSearchIndex postSearchIndex;
+
+    private final PostDetailCache postDetailCache;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int HOT_POST_COUNT = 3;
+
+    private static final int MAX_PAGE_SIZE = 50;
 
     // 기존: 리뷰 등록
     @Transactional
     public void registReview(Long userId, ReviewRegistDto reviewDto) {
         reviewDto.setUserId(userId);
         reviewMapper.insertReview(reviewDto);
+        reviewMapper.addReviewStats(reviewDto.getPostId(), 1, reviewDto.getRating());
+        eventPublisher.publishEvent(new PostChangedEvent(reviewDto.getPostId()));
     }
 
     // [추가] 특정 플랜의 리뷰 대상(장소) 목록 조회
@@ -34,141 +62,91 @@ public class ReviewService {
     }
 
     @Transactional(readOnly = true)
-    public List<PostListDto> getPostList(String keyword) {
-        return reviewMapper.selectPostList(keyword);
+    public CursorPage<PostListDto> getPostList(String keyword, String cursor, int size) {
+        int pageSize = pageSize(size);
+
+        // 검색어가 있으면 검색 색인에서 점수 순으로 (색인 준비 전에는 DB 검색)
+        if (keyword != null && !keyword.isBlank() && postSearchIndex.isReady()) {
+            return searchPosts(keyword, cursor, pageSize);
+        }
+
+        List<PostListDto> rows = reviewMapper.selectPostList(keyword, Cursor.decode(cursor), pageSize + 1);
+        return CursorPage.of(rows, pageSize, post -> new Cursor(post.getCreatedAt(), post.getPostId()));
     }
 
-    @Transactional(readOnly = true)
+    // HOT 여행기 (Redis 랭킹 + 카드 캐시, DB 는 캐시에 없는 카드만)
     public List<PostListDto> getHotPostList() {
-        return reviewMapper.selectHotPostList();
+        return hotPostRanking.top(HOT_POST_COUNT);
     }
 
-    @Transactional
-    public PostDetailDto getPostDetail(Long postId, Long userId) {
-        reviewMapper.updateViewCount(postId);
-
-        // 로그인 안 했을 경우 0으로 처리하여 에러 방지
-        Long safeUserId = (userId == null) ? 0L : userId;
-
-        PostDetailDto post = reviewMapper.selectPostDetail(postId, safeUserId);
+    // 조회수는 Redis 에 모았다가 PostViewCounter 가 주기적으로 반영 (상세 조회는 DB 쓰기 없음)
+    // 사용자와 무관한 부분은 PostDetailCache (로컬 -> Redis -> DB), 좋아요 여부만 사용자별로 덮어씀
+    public PostDetailDto getPostDetail(Long postId, Long userId, String viewerIp) {
+        PostDetailDto post = postDetailCache.get(postId);
 
         if (post == null) return null;
 
-        if (post.getPlanId() != null) {
-            post.setSchedules(reviewMapper.selectPostSchedules(post.getPlanId(), postId));
-        }
+        // 캐시의 기준값에 반영 누적 + 아직 반영 안 된 조회수를 더해서 보여줌
+        long[] views = postViewCounter.record(postId, userId, viewerIp);
+        post.setViewCount(post.getViewCount() + (int) views[0]);
+        post.setUniqueViewCount(views[1]);
 
-        // [수정] 장소 리뷰 대신 -> 게시글 댓글(미리보기 3개)을 가져와서 넣음
-        post.setComments(reviewMapper.selectPostCommentsPreview(postId));
+        // 좋아요 수/여부 덮어쓰기
+        postLikeService.overlay(post, userId);
 
         return post;
     }
 
-    // 좋아요 토글 로직
-    @Transactional
+    // 좋아요 토글 로직 (Redis 에서 바로 처리, DB 반영과 알림은 PostLikeService 가 모아서 처리)
     public boolean togglePostLike(Long postId, Long userId) {
-        int count = reviewMapper.checkPostLike(postId, userId);
-
-        if (count > 0) {
-            // 좋아요 취소 (알림 X)
-            reviewMapper.deletePostLike(postId, userId);
-            reviewMapper.decreaseLikeCount(postId);
-            return false;
-        } else {
-            // 좋아요 등록 (알림 O)
-            reviewMapper.insertPostLike(postId, userId);
-            reviewMapper.increaseLikeCount(postId);
-
-            // =========================================================
-            //  [수정됨] 알림 발송 로직
-            // =========================================================
-            try {
-                // 1. 방금 만든 메서드로 '작성자 ID'만 가볍게 조회!
-                Long writerId = reviewMapper.selectWriterId(postId);
-
-                // 2. 작성자가 존재하고, 본인이 쓴 글이 아닐 때만 알림 전송
-                if (writerId != null && !writerId.equals(userId)) {
-
-                    NotificationDto notification = new NotificationDto();
-                    notification.setUserId(writerId);        // 받는 사람 (작성자)
-                    notification.setSenderId(userId);        // 보낸 사람 (좋아요 누른 사람)
-                    notification.setNotificationType("POST_LIKE"); // 알림 타입
-                    notification.setTargetId(postId);        // 클릭 시 이동할 게시글 ID
-                    notification.setContent("님이 회원님의 여행기를 좋아합니다."); // 메시지
-
-                    // 3. DB 저장
-                    notificationMapper.insertNotification(notification);
-                }
-            } catch (Exception e) {
-                log.error("좋아요 알림 전송 실패: ", e);
-            }
-            // =========================================================
-
-            return true;
-        }
+        return postLikeService.toggle(postId, userId);
     }
 
     // 댓글 목록
     @Transactional(readOnly = true)
-    public List<PostCommentDto> getPostComments(Long postId) {
-        return reviewMapper.selectPostComments(postId);
+    public CursorPage<PostCommentDto> getPostComments(Long postId, String cursor, int size) {
+        int pageSize = pageSize(size);
+        List<PostCommentDto> rows = reviewMapper.selectPostComments(postId, Cursor.decode(cursor), pageSize + 1);
+        return CursorPage.of(rows, pageSize, comment -> new Cursor(comment.getCursorAt(), comment.getCommentId()));
     }
 
     // 댓글 등록
     @Transactional
     public void registPostComment(PostCommentDto commentDto) {
         reviewMapper.insertPostComment(commentDto);
+        reviewMapper.increaseCommentCount(commentDto.getPostId());
+        eventPublisher.publishEvent(new PostCommentChangedEvent(commentDto.getPostId()));
 
-        try {
-            Long postId = commentDto.getPostId();
-            Long commenterId = commentDto.getUserId();
-
-            Long writerId = reviewMapper.selectWriterId(postId);
-
-            String postTitle = reviewMapper.selectPostTitle(postId);
-            if(postTitle == null) postTitle = "여행기";
-
-            if (writerId != null && !writerId.equals(commenterId)) {
-
-                NotificationDto notification = new NotificationDto();
-                notification.setUserId(writerId);
-                notification.setSenderId(commenterId);
-
-                notification.setNotificationType("POST_COMMENT");
-
-                notification.setTargetId(postId);
-                // ★ 핵심: [메인 메시지] || [댓글 내용] 형태로 합쳐서 저장
-                // 예: "님이 회원님의 '부산 여행' 여행기에 댓글을 남겼습니다.||와 여기 진짜 좋네요!"
-                String message = "님이 회원님의 " + postTitle + "에 댓글을 남겼습니다.";
-                String preview = commentDto.getContent();
-
-                // 댓글이 너무 길면 20자 정도로 자르기
-                if(preview.length() > 20) {
-                    preview = preview.substring(0, 20) + "...";
-                }
+        // 댓글이 너무 길면 20자 정도로 자르기
+        String preview = commentDto.getContent();
+        if (preview.length() > 20) {
+            preview = preview.substring(0, 20) + "...";
+        }
 
-                notification.setContent(message + "||" + preview);
+        // 알림은 아웃박스에만 기록 (작성자/제목 조회, 저장, 전송은 NotificationDispatcher 가 처리)
+        notificationService.sendToPostWriter(commentDto.getUserId(), NotificationType.POST_COMMENT, commentDto.getPostId(), preview);
 
-                // 3. DB 저장
-                notificationMapper.insertNotification(notification);
-            }
-        } catch (Exception e) {
-            // 알림 전송 실패해도 댓글 등록은 유지되도록 예외 처리
-            log.error("댓글 알림 전송 실패: ", e);
-        }
-        // =========================================================
+        hotPostRanking.onComment(commentDto.getPostId());
     }
 
     // 댓글 수정
     @Transactional
     public void modifyPostComment(PostCommentDto commentDto) {
         reviewMapper.updatePostComment(commentDto);
+
+        Long postId = reviewMapper.selectCommentPostId(commentDto.getCommentId());
+        if (postId != null) eventPublisher.publishEvent(new PostCommentChangedEvent(postId));
     }
 
     // 댓글 삭제
     @Transactional
     public void removePostComment(Long commentId) {
+        Long postId = reviewMapper.selectCommentPostId(commentId);
+
+        reviewMapper.decreaseCommentCountByCommentId(commentId);
         reviewMapper.deletePostComment(commentId);
+
+        if (postId != null) eventPublisher.publishEvent(new PostCommentChangedEvent(postId));
     }
 
     // 여행기 삭제
@@ -188,6 +166,8 @@ public class ReviewService {
         if (result == 0) {
             throw new RuntimeException("삭제 권한이 없거나 존재하지 않는 게시글입니다.");
         }
+
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
     // [추가] 여행기 등록 로직 (트랜잭션 필수!)
@@ -213,13 +193,21 @@ public class ReviewService {
             // 3. ID가 채워진 리스트를 한 번에 저장
             // (인자를 3개 보내지 말고, 리스트 하나만 보냅니다)
             reviewMapper.insertTripReviews(reviews);
+
+            // 4. 목록용 요약 컬럼(리뷰 수, 별점 합계) 반영
+            int ratingTotal = reviews.stream().mapToInt(TripPostRegistDto.PlaceReviewDto::getRating).sum();
+            reviewMapper.addReviewStats(registDto.getPostId(), reviews.size(), ratingTotal);
         }
+
+        // 커밋 후 검색 색인 반영
+        eventPublisher.publishEvent(new PostChangedEvent(registDto.getPostId()));
     }
 
     @Transactional(readOnly = true)
-    public List<PostListDto> getMyPostList(Long userId) {
-        // 매퍼 호출
-        return reviewMapper.selectMyPostList(userId);
+    public CursorPage<PostListDto> getMyPostList(Long userId, String cursor, int size) {
+        int pageSize = pageSize(size);
+        List<PostListDto> rows = reviewMapper.selectMyPostList(userId, Cursor.decode(cursor), pageSize + 1);
+        return CursorPage.of(rows, pageSize, post -> new Cursor(post.getCreatedAt(), post.getPostId()));
     }
 
     // [추가] 여행기 수정 비즈니스 로직
@@ -237,20 +225,63 @@ public class ReviewService {
         }
 
         // 3. 장소별 리뷰(Reviews) 테이블 수정
-        // 리스트를 돌면서 하나씩 업데이트합니다.
-        for (ReviewUpdateDto.PlaceReviewUpdateDto reviewDto : requestDto.getPlaceReviews()) {
-            reviewMapper.updatePlaceReview(
-                    requestDto.getPostId(),
-                    reviewDto.getPlanScheduleId(),
-                    reviewDto.getRating(),
-                    reviewDto.getComment()
-            );
+        // 한 번의 쿼리로 있는 리뷰는 수정, 없는 리뷰는 새로 등록합니다.
+        List<ReviewUpdateDto.PlaceReviewUpdateDto> placeReviews = requestDto.getPlaceReviews();
+        if (placeReviews != null && !placeReviews.isEmpty()) {
+            reviewMapper.upsertPlaceReviews(requestDto.getPostId(), placeReviews);
         }
+
+        // 4. 목록용 요약 컬럼 다시 계산 (수정 전 별점을 모르므로 게시글 하나만 재집계)
+        reviewMapper.refreshReviewStats(requestDto.getPostId());
+
+        eventPublisher.publishEvent(new PostChangedEvent(requestDto.getPostId()));
     }
 
     // [추가] 좋아요한 게시글 목록 가져오기
-    @Transactional
-    public List<PostListDto> getLikedPostList(Long userId) {
-        return reviewMapper.selectLikedPostList(userId);
+    // 좋아요 누른 순서로 정렬
+    @Transactional(readOnly = true)
+    public CursorPage<PostListDto> getLikedPostList(Long userId, String cursor, int size) {
+        int pageSize = pageSize(size);
+        List<PostListDto> rows = reviewMapper.selectLikedPostList(userId, Cursor.decode(cursor), pageSize + 1);
+        return CursorPage.of(rows, pageSize, post -> new Cursor(post.getLikedAt(), post.getPostId()));
+    }
+
+    // 검색 결과는 점수 순이라 커서에 몇 번째까지 봤는지를 담음
+    private CursorPage<PostListDto> searchPosts(String keyword, String cursor, int pageSize) {
+        int offset = decodeOffset(cursor);
+        List<Long> postIds = postSearchIndex.search(keyword, offset, pageSize + 1);
+
+        boolean hasNext = postIds.size() > pageSize;
+        List<Long> pageIds = hasNext ? postIds.subList(0, pageSize) : postIds;
+        if (pageIds.isEmpty()) return new CursorPage<>(List.of(), null, false);
+
+        // 카드는 ID 로 한 번에 조회 후 점수 순서대로 정렬 (그 사이 삭제된 글은 제외)
+        Map<Long, PostListDto> cards = new HashMap<>();
+        reviewMapper.selectPostCardsByIds(pageIds).forEach(card -> cards.put(card.getPostId(), card));
+        List<PostListDto> items = pageIds.stream().map(cards::get).filter(Objects::nonNull).toList();
+
+        return new CursorPage<>(items, hasNext ? encodeOffset(offset + pageSize) : null, hasNext);
+    }
+
+    private String encodeOffset(int offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("search|" + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private int decodeOffset(String cursor) {
+        if (cursor == null || cursor.isBlank()) return 0;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith("search|")) throw new IllegalArgumentException();
+            return Math.max(Integer.parseInt(raw.substring("search|".length())), 0);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    // 한 페이지 크기 (1 ~ 50), 다음 페이지 확인용으로 1개 더 조회
+    private int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
     }
 }
\ No newline at end of file
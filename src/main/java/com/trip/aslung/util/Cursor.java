@@ -0,0 +1,38 @@
+package com.trip.aslung.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (정렬 기준 시각 + 동순위 구분용 ID).
+ * 클라이언트에는 내용을 알 수 없는 문자열로만 내려준다.
+ */
+@Getter
+@AllArgsConstructor
+public class Cursor {
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 null (첫 페이지)
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            return new Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
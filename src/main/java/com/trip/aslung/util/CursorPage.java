@@ -0,0 +1,25 @@
+package com.trip.aslung.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor; // 다음 페이지가 없으면 null
+    private boolean hasNext;
+
+    // size + 1 개를 조회한 결과로 페이지를 만듦 (마지막 1개는 다음 페이지 존재 여부 확인용)
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> items = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+        return new CursorPage<>(items, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,58 @@
+package com.trip.aslung.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색용 토크나이저.
+ * 한글은 띄어쓰기/조사가 제각각이라 음절 2-gram 으로 자르고 ("제주도여행" -> 제주, 주도, 도여, 여행),
+ * 영문/숫자는 단어 단위(소문자)로 자른다. 한 글자짜리 한글 단어는 그대로 둔다.
+ */
+public final class HangulTokenizer {
+
+    private HangulTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) return tokens;
+
+        String lower = text.toLowerCase();
+        StringBuilder run = new StringBuilder();
+        boolean hangulRun = false;
+
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            boolean hangul = isHangulSyllable(c);
+            boolean word = hangul || Character.isLetterOrDigit(c);
+
+            // 글자 종류가 바뀌거나 구분자가 나오면 지금까지 모은 묶음을 토큰으로
+            if (!word || (run.length() > 0 && hangul != hangulRun)) {
+                flush(run, hangulRun, tokens);
+            }
+            if (word) {
+                run.append(c);
+                hangulRun = hangul;
+            }
+        }
+        flush(run, hangulRun, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder run, boolean hangul, List<String> tokens) {
+        if (run.length() == 0) return;
+
+        if (hangul && run.length() > 1) {
+            for (int i = 0; i + 1 < run.length(); i++) {
+                tokens.add(run.substring(i, i + 2));
+            }
+        } else {
+            tokens.add(run.toString());
+        }
+        run.setLength(0);
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
@@ -0,0 +1,75 @@
+package com.trip.aslung.util;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 응답 DTO 를 JSON 문자열로 Redis 에 캐싱.
+ * DTO 에 setter 가 없는 경우가 많아 필드 기준으로 직렬화하고,
+ * 캐시가 깨져 있으면 없는 것으로 보고 다시 조회하게 한다.
+ */
+@Slf4j
+@Component
+public class JsonRedisCache {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public JsonRedisCache(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper.copy()
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    // 없거나 읽을 수 없으면 null
+    public <T> T get(String key, TypeReference<T> type) {
+        String json = (String) redisTemplate.opsForValue().get(key);
+        if (json == null) return null;
+
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            log.warn("캐시 역직렬화 실패, 삭제합니다. key={}", key, e);
+            redisTemplate.delete(key);
+            return null;
+        }
+    }
+
+    public void set(String key, Object value, Duration ttl) {
+        String json = toJson(key, value);
+        if (json != null) {
+            redisTemplate.opsForValue().set(key, json, ttl);
+        }
+    }
+
+    // 조건부 저장(Lua) 처럼 직접 써야 할 때 같은 형식의 JSON, 실패하면 null
+    public String toJson(String key, Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.warn("캐시 직렬화 실패. key={}", key, e);
+            return null;
+        }
+    }
+
+    public void delete(String key) {
+        redisTemplate.delete(key);
+    }
+
+    public void delete(Collection<String> keys) {
+        if (keys.isEmpty()) return;
+        redisTemplate.delete(keys);
+    }
+}
@@ -0,0 +1,7 @@
+-- 내 플랜 목록 (plan_members 쪽은 인덱스만으로 조회, plans 는 PK 조회)
+ALTER TABLE plan_members
+    ADD INDEX idx_plan_members_user (user_id, status, plan_id);
+
+-- 커서 조건 (created_at, plan_id) 비교/정렬용
+ALTER TABLE plans
+    ADD INDEX idx_plans_created (created_at, plan_id);
@@ -0,0 +1,6 @@
+-- 같은 (받는 사람, 종류, 대상) 알림을 시간 구간별로 한 행에 모음 ("A님 외 12명이 ...")
+ALTER TABLE notifications
+    ADD COLUMN group_key        VARCHAR(100) NULL,               -- 묶음 알림만 (userId:type:targetId:구간)
+    ADD COLUMN actor_count      INT          NOT NULL DEFAULT 1,
+    ADD COLUMN recent_actor_ids VARCHAR(255) NULL,               -- 최근 보낸 사람 ID (최신순, 최대 3명)
+    ADD UNIQUE KEY uk_notifications_group (group_key);
@@ -0,0 +1,32 @@
+-- 묶음 알림의 보낸 사람 집합 ("님 외 N명" 의 N 을 정확히 세기 위함)
+-- 알림 행이 정리(삭제)되면 함께 삭제
+CREATE TABLE notification_group_actors (
+    group_key  VARCHAR(100) NOT NULL,
+    actor_id   BIGINT       NOT NULL,
+    created_at DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (group_key, actor_id),
+    CONSTRAINT fk_notification_group_actors_group
+        FOREIGN KEY (group_key) REFERENCES notifications (group_key) ON DELETE CASCADE
+);
+
+-- actor_count = actor_base + 보낸 사람 집합 크기
+-- 이미 있던 묶음은 최근 보낸 사람(최대 3명)만 옮길 수 있으므로 나머지 인원은 actor_base 로 보존
+ALTER TABLE notifications
+    ADD COLUMN actor_base INT NOT NULL DEFAULT 0;
+
+-- 보관 테이블은 SELECT * 로 옮기므로 컬럼을 맞춰 둠 (notification_retention.sql 적용 후)
+ALTER TABLE notifications_archive
+    ADD COLUMN actor_base INT NOT NULL DEFAULT 0;
+
+INSERT IGNORE INTO notification_group_actors (group_key, actor_id)
+SELECT n.group_key, jt.actor_id
+FROM notifications n
+         JOIN JSON_TABLE(CONCAT('[', n.recent_actor_ids, ']'), '$[*]' COLUMNS (actor_id BIGINT PATH '$')) jt
+WHERE n.group_key IS NOT NULL
+  AND n.recent_actor_ids IS NOT NULL;
+
+UPDATE notifications n
+SET n.actor_base = GREATEST(n.actor_count - (SELECT COUNT(*)
+                                             FROM notification_group_actors a
+                                             WHERE a.group_key = n.group_key), 0)
+WHERE n.group_key IS NOT NULL;
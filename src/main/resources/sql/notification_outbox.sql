@@ -0,0 +1,10 @@
+-- 알림 아웃박스 (요청 트랜잭션에서는 이 테이블에만 기록하고, 발송기가 알림으로 변환 후 삭제)
+CREATE TABLE notification_outbox (
+    outbox_id   BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type  VARCHAR(30)  NOT NULL,          -- NotificationType
+    sender_id   BIGINT       NOT NULL,
+    receiver_id BIGINT       NULL,              -- NULL 이면 target_id 게시글의 작성자
+    target_id   BIGINT       NOT NULL,          -- plan_id 또는 post_id
+    content     VARCHAR(500) NULL,              -- 완성된 메시지 또는 댓글 미리보기
+    created_at  DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,9 @@
+-- 아웃박스 행 단위 실패 처리
+-- attempts        : 한 건씩 처리하다 실패한 횟수
+-- next_attempt_at : 다음 재시도 가능 시각 (NULL 이면 바로)
+-- failed_at       : 재시도 한도를 넘었거나 변환할 수 없는 행 (발송 대상에서 제외, 원인은 last_error)
+ALTER TABLE notification_outbox
+    ADD COLUMN attempts        INT          NOT NULL DEFAULT 0,
+    ADD COLUMN next_attempt_at DATETIME     NULL,
+    ADD COLUMN failed_at       DATETIME     NULL,
+    ADD COLUMN last_error      VARCHAR(500) NULL;
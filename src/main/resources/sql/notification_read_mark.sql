@@ -0,0 +1,8 @@
+-- 사용자별 "여기까지 읽음" 시각 (전체 읽음 시 알림 행 대신 이 값만 갱신, 초대는 제외)
+CREATE TABLE notification_read_marks (
+    user_id      BIGINT   PRIMARY KEY,
+    last_read_at DATETIME NOT NULL
+);
+
+-- 내 알림 목록 키셋 페이지네이션 / 안 읽은 수 계산용
+CREATE INDEX idx_notifications_user_created ON notifications (user_id, created_at, notification_id);
@@ -0,0 +1,6 @@
+-- 보관 기간이 지난 알림 정리용
+-- 오래된 순으로 잘라서 찾기 위한 인덱스
+CREATE INDEX idx_notifications_created ON notifications (created_at, notification_id);
+
+-- archive 모드일 때 옮겨 둘 테이블 (구조는 notifications 와 동일)
+CREATE TABLE notifications_archive LIKE notifications;
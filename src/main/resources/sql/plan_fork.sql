@@ -0,0 +1,10 @@
+-- 플랜 복사 / 포크(Copy-on-Write) 지원
+-- fork_source_plan_id : 일정이 아직 복사되지 않은 포크 플랜의 원본 플랜 ID (첫 수정 시 NULL 로 바뀜)
+-- origin_schedule_id  : 복사로 만들어진 일정의 원본 일정 ID
+
+ALTER TABLE plans
+    ADD COLUMN fork_source_plan_id BIGINT NULL;
+
+ALTER TABLE plan_schedules
+    ADD COLUMN origin_schedule_id BIGINT NULL,
+    ADD INDEX idx_plan_schedules_origin (plan_id, origin_schedule_id);
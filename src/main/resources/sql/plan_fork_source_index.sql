@@ -0,0 +1,3 @@
+-- 원본 플랜을 수정/삭제하기 전에 복사 전인 포크를 찾고 잠그기 위한 인덱스
+ALTER TABLE plans
+    ADD INDEX idx_plans_fork_source (fork_source_plan_id);
@@ -0,0 +1,3 @@
+-- 플랜 상세 ETag 용 버전 (플랜/멤버/일정이 바뀔 때마다 1씩 증가)
+ALTER TABLE plans
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
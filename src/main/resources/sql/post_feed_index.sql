@@ -0,0 +1,5 @@
+-- 여행기/댓글 키셋 페이지네이션용 인덱스 (정렬 + 커서 조건을 인덱스만으로 처리)
+CREATE INDEX idx_posts_created ON posts (created_at, post_id);
+CREATE INDEX idx_posts_user_created ON posts (user_id, created_at, post_id);
+CREATE INDEX idx_post_likes_user_created ON post_likes (user_id, created_at, post_id);
+CREATE INDEX idx_post_comments_post_created ON post_comments (post_id, created_at, comment_id);
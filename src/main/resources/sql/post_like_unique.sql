@@ -0,0 +1,2 @@
+-- 좋아요 일괄 반영(INSERT IGNORE)용 중복 방지 키 (이미 있으면 생략)
+ALTER TABLE post_likes ADD UNIQUE KEY uk_post_likes_post_user (post_id, user_id);
@@ -0,0 +1,13 @@
+-- 여행기 목록용 요약 컬럼 (목록 조회 시 reviews / post_comments 집계 없이 바로 읽음)
+ALTER TABLE posts
+    ADD COLUMN excerpt       VARCHAR(50) NULL,              -- 본문 앞 50자
+    ADD COLUMN review_count  INT         NOT NULL DEFAULT 0,
+    ADD COLUMN rating_total  INT         NOT NULL DEFAULT 0, -- 평균 = rating_total / review_count
+    ADD COLUMN comment_count INT         NOT NULL DEFAULT 0;
+
+-- 기존 데이터 채우기
+UPDATE posts p
+SET p.excerpt       = LEFT(p.content, 50),
+    p.review_count  = (SELECT COUNT(*) FROM reviews r WHERE r.post_id = p.post_id),
+    p.rating_total  = (SELECT IFNULL(SUM(r.rating), 0) FROM reviews r WHERE r.post_id = p.post_id),
+    p.comment_count = (SELECT COUNT(*) FROM post_comments c WHERE c.post_id = p.post_id);
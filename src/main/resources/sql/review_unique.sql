@@ -0,0 +1,9 @@
+-- 게시글의 장소(스케줄)별 리뷰는 하나만 (리뷰 일괄 upsert 용)
+-- 이미 중복 행이 있으면 가장 최근 리뷰만 남기고 정리
+DELETE r1
+FROM reviews r1
+         JOIN reviews r2 ON r1.post_id = r2.post_id
+    AND r1.plan_schedule_id = r2.plan_schedule_id
+    AND r1.review_id < r2.review_id;
+
+ALTER TABLE reviews ADD UNIQUE KEY uk_reviews_post_schedule (post_id, plan_schedule_id);